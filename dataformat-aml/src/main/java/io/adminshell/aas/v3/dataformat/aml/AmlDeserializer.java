@@ -22,6 +22,7 @@ import io.adminshell.aas.v3.dataformat.aml.deserialization.Aml2AasMapper;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.CAEXFile;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import java.io.Reader;
 import java.io.StringReader;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
@@ -39,9 +40,13 @@ public class AmlDeserializer implements Deserializer {
 
     @Override
     public AssetAdministrationShellEnvironment read(String value) throws DeserializationException {
+        return read(new StringReader(value));
+    }
+
+    @Override
+    public AssetAdministrationShellEnvironment read(Reader reader) throws DeserializationException {
         try {
             Unmarshaller unmarshaller = JAXBContextFactory.createContext(new Class[]{CAEXFile.class}, null).createUnmarshaller();
-            StringReader reader = new StringReader(value);
             CAEXFile aml = (CAEXFile) unmarshaller.unmarshal(reader);
             Aml2AasMapper mapper = new Aml2AasMapper(new AmlDeserializationConfig.Builder()
                     .typeFactory(typeFactory)
@@ -25,6 +25,7 @@ import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
@@ -57,6 +58,28 @@ public class AmlSerializer implements Serializer {
      * @throws SerializationException if serialization fails
      */
     public String write(AssetAdministrationShellEnvironment aasEnvironment, AmlSerializationConfig config) throws SerializationException {
+        StringWriter writer = new StringWriter();
+        write(writer, aasEnvironment, config);
+        return writer.toString();
+    }
+
+    @Override
+    public void write(Writer writer, AssetAdministrationShellEnvironment aasEnvironment) throws IOException, SerializationException {
+        write(writer, aasEnvironment, AmlSerializationConfig.DEFAULT);
+        writer.flush();
+    }
+
+    /**
+     * Serializes a given instance of AssetAdministrationShellEnvironment
+     * directly to a writer. The writer is not closed.
+     *
+     * @param writer the writer to serialize to
+     * @param aasEnvironment the AssetAdministrationShellEnvironment to
+     * serialize
+     * @param config serialization configuration
+     * @throws SerializationException if serialization fails
+     */
+    public void write(Writer writer, AssetAdministrationShellEnvironment aasEnvironment, AmlSerializationConfig config) throws SerializationException {
         try {
             CAEXFile aml = new AasToAmlMapper().map(aasEnvironment, config);
             if (config.isIncludeLibraries()) {
@@ -70,9 +93,7 @@ public class AmlSerializer implements Serializer {
             },
                     null).createMarshaller();
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter writer = new StringWriter();
             marshaller.marshal(aml, writer);
-            return writer.toString();
         } catch (JAXBException ex) {
             throw new SerializationException("error serializing AssetAdministrationShellEnvironment", ex);
         } catch (MappingException ex) {
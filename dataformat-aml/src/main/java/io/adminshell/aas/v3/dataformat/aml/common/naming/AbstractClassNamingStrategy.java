@@ -21,6 +21,7 @@ import io.adminshell.aas.v3.model.Referable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +33,8 @@ public abstract class AbstractClassNamingStrategy implements NamingStrategy {
 
     protected final boolean preferIdShort;
     protected Map<Object, String> cache = new HashMap<>();
+    // looked up first so already named objects are not hashed at all
+    private final Map<Object, String> identityCache = new IdentityHashMap<>();
     protected List<TypeSafeFunction> customNamings = new ArrayList<>();
 
     private class TypeSafeFunction<T> {
@@ -69,9 +72,17 @@ public abstract class AbstractClassNamingStrategy implements NamingStrategy {
 
     @Override
     public String getName(Type type, Object obj, String property) {
-        if (cache.containsKey(obj)) {
-            return cache.get(obj);
+        String cached = identityCache.get(obj);
+        if (cached != null) {
+            return cached;
         }
+        // single lookup as hashing the model classes covers all their (nested) properties
+        String result = cache.computeIfAbsent(obj, x -> createName(type, x, property));
+        identityCache.put(obj, result);
+        return result;
+    }
+
+    private String createName(Type type, Object obj, String property) {
         String result = null;
         if (preferIdShort && Referable.class.isAssignableFrom(obj.getClass())) {
             Referable referable = (Referable) obj;
@@ -88,7 +99,6 @@ public abstract class AbstractClassNamingStrategy implements NamingStrategy {
         if (result == null) {
             result = generateName(obj);
         }
-        cache.put(obj, result);
         return result;
     }
 
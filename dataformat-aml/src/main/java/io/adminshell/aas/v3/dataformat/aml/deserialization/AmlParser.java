@@ -18,6 +18,7 @@ package io.adminshell.aas.v3.dataformat.aml.deserialization;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.CAEXFile;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.CAEXObject;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.Reference;
@@ -159,8 +160,8 @@ public class AmlParser {
                 }
             }
             try {
-                entry.getKey().property.getWriteMethod().invoke(entry.getKey().parent, value);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                PropertyAccessor.of(entry.getKey().property).set(entry.getKey().parent, value);
+            } catch (IllegalArgumentException | InvocationTargetException ex) {
                 throw new MappingException("error resolving references", ex);
             }
         }
@@ -19,6 +19,7 @@ import io.adminshell.aas.v3.dataformat.aml.model.caex.*;
 import io.adminshell.aas.v3.dataformat.aml.common.naming.PropertyNamingStrategy;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 
 import java.beans.IntrospectionException;
@@ -173,17 +174,18 @@ public class DefaultMapper<T> implements Mapper<T> {
         if (parent == null || context == null) {
             return;
         }
-        for (PropertyDescriptor property : AasUtils.getAasProperties(parent.getClass())) {
+        for (PropertyAccessor accessor : AasUtils.getAasPropertyAccessors(parent.getClass())) {
+            PropertyDescriptor property = accessor.getDescriptor();
             if (!skipProperty(property)) {
                 Object propertyValue = context
                         .with(parent)
                         .with(property)
                         .withoutType()
-                        .map(property.getReadMethod().getGenericReturnType(), parser);
+                        .map(accessor.getGenericType(), parser);
                 if (propertyValue != null) {
                     try {
-                        property.getWriteMethod().invoke(parent, propertyValue);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                        accessor.set(parent, propertyValue);
+                    } catch (IllegalArgumentException | InvocationTargetException ex) {
                         throw new MappingException(String.format("error setting property value for property %s", property.getName()), ex);
                     }
                 }
@@ -23,6 +23,7 @@ import io.adminshell.aas.v3.dataformat.aml.model.caex.CAEXObject;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.InternalElementType;
 import io.adminshell.aas.v3.dataformat.core.DataSpecificationManager;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.DataSpecificationIEC61360;
 import io.adminshell.aas.v3.model.DataTypeIEC61360;
@@ -74,9 +75,9 @@ public class DataSpecificationIEC61360Mapper extends DefaultMapper<DataSpecifica
                         parser.setCurrent(attributeType);
                         createdObject = map(parser, context);
                     }
-                    if (createdObject != null) propertyDescriptor.getWriteMethod().invoke(parent, createdObject);
+                    if (createdObject != null) PropertyAccessor.of(propertyDescriptor).set(parent, createdObject);
 
-                } catch (IllegalAccessException | InvocationTargetException ex) {
+                } catch (InvocationTargetException ex) {
                     throw new MappingException(String.format("error setting property value for property %s", propertyDescriptor.getName()), ex);
                 }
             }
@@ -21,6 +21,7 @@ import io.adminshell.aas.v3.dataformat.aml.deserialization.MappingContext;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.AttributeType;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.CAEXObject;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.IdentifierKeyValuePair;
 import java.beans.PropertyDescriptor;
@@ -47,16 +48,17 @@ public class IdentifierKeyValuePairCollectionMapper extends DefaultMapper<Collec
             parser.setCurrent(attribute);
             try {
                 IdentifierKeyValuePair element = context.getTypeFactory().newInstance(IdentifierKeyValuePair.class);
-                for (PropertyDescriptor property : AasUtils.getAasProperties(IdentifierKeyValuePair.class)) {
+                for (PropertyAccessor accessor : AasUtils.getAasPropertyAccessors(IdentifierKeyValuePair.class)) {
+                    PropertyDescriptor property = accessor.getDescriptor();
                     Object propertyValue = context
                             .with(element)
                             .with(property)
                             .withoutType()
-                            .map(property.getReadMethod().getGenericReturnType(), parser);
+                            .map(accessor.getGenericType(), parser);
                     if (propertyValue != null) {
                         try {
-                            property.getWriteMethod().invoke(element, propertyValue);
-                        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                            accessor.set(element, propertyValue);
+                        } catch (IllegalArgumentException | InvocationTargetException ex) {
                             throw new MappingException(String.format("error setting property value for property %s", property.getName()), ex);
                         }
                     }
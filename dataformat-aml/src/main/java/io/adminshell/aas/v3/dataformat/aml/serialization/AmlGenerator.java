@@ -25,14 +25,13 @@ import io.adminshell.aas.v3.dataformat.aml.model.caex.InternalElementType;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.RoleClassType;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.SystemUnitClassType;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.ReferenceMap;
 import io.adminshell.aas.v3.model.Referable;
 import io.adminshell.aas.v3.model.Reference;
 import io.adminshell.aas.v3.model.impl.DefaultReference;
 import java.beans.PropertyDescriptor;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -167,11 +166,9 @@ public class AmlGenerator {
         } else {
             return idGenerator.next();
         }
-        Optional<Reference> cacheKey = idCache.keySet().stream()
-                .filter(x -> AasUtils.sameAs(x, key))
-                .findFirst();
-        if (cacheKey.isPresent()) {
-            return idCache.get(cacheKey.get());
+        String cached = idCache.get(key);
+        if (cached != null) {
+            return cached;
         }
         String result = idGenerator.next();
         idCache.put(key, result);
@@ -412,7 +409,7 @@ public class AmlGenerator {
         public AmlGenerator build() {
             return new AmlGenerator(documentInfo,
                     idGenerator,
-                    new HashMap<>(),
+                    new ReferenceMap<>(),
                     refSemanticPrefix,
                     fileBuilder,
                     current,
@@ -19,6 +19,7 @@ import io.adminshell.aas.v3.dataformat.aml.model.caex.AttributeType;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.InternalElementType;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.Referable;
 import java.beans.PropertyDescriptor;
@@ -137,10 +138,11 @@ public class DefaultMapper<T> implements Mapper<T> {
     }
 
     protected void mapProperties(T value, AmlGenerator generator, MappingContext context) throws MappingException {
-        for (PropertyDescriptor property : AasUtils.getAasProperties(value.getClass())) {
+        for (PropertyAccessor accessor : AasUtils.getAasPropertyAccessors(value.getClass())) {
+            PropertyDescriptor property = accessor.getDescriptor();
             if (!skipProperty(property)) {
                 context.with(property)
-                        .map(property.getReadMethod().getGenericReturnType(),
+                        .map(accessor.getGenericType(),
                                 getPropertyValue(value, property, context),
                                 generator);
             }
@@ -149,8 +151,8 @@ public class DefaultMapper<T> implements Mapper<T> {
 
     protected Object getPropertyValue(T value, PropertyDescriptor property, MappingContext context) throws MappingException {
         try {
-            return property.getReadMethod().invoke(value);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            return PropertyAccessor.of(property).get(value);
+        } catch (IllegalArgumentException | InvocationTargetException ex) {
             throw new MappingException("failed to get property value for property " + property.getName(), ex);
         }
     }
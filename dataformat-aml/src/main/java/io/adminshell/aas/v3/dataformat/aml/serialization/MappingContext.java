@@ -17,7 +17,7 @@ package io.adminshell.aas.v3.dataformat.aml.serialization;
 
 import io.adminshell.aas.v3.dataformat.aml.common.naming.NamingStrategy;
 import io.adminshell.aas.v3.dataformat.aml.util.ReferencedReferableCollector;
-import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnvironmentIndex;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.dataformat.mapping.MappingProvider;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
@@ -33,6 +33,7 @@ public class MappingContext extends AbstractMappingContext<Mapper> {
 
     private static final Logger log = LoggerFactory.getLogger(MappingContext.class);
     private final AssetAdministrationShellEnvironment environment;
+    private final EnvironmentIndex environmentIndex;
     private final Set<Reference> referencedReferables;
 
     public MappingContext(MappingProvider mappingProvider,
@@ -43,6 +44,7 @@ public class MappingContext extends AbstractMappingContext<Mapper> {
                 internalElementNamingStrategy,
                 attributeNamingStrategy,
                 environment,
+                new EnvironmentIndex(environment),
                 null,
                 null);
     }
@@ -51,19 +53,21 @@ public class MappingContext extends AbstractMappingContext<Mapper> {
             NamingStrategy classNamingStrategy,
             NamingStrategy propertyNamingStrategy,
             AssetAdministrationShellEnvironment environment,
+            EnvironmentIndex environmentIndex,
             Set<Reference> referencedReferables,
             PropertyDescriptor property) {
         super(mappingProvider, classNamingStrategy, propertyNamingStrategy, property);
         this.environment = environment;
+        this.environmentIndex = environmentIndex;
         if (referencedReferables == null) {
-            this.referencedReferables = new ReferencedReferableCollector(environment).collect();
+            this.referencedReferables = new ReferencedReferableCollector(environment, environmentIndex).collect();
         } else {
             this.referencedReferables = referencedReferables;
         }
     }
 
     public boolean isTargetOfInternalLink(Reference targetRef) {
-        return referencedReferables.stream().anyMatch(x -> AasUtils.sameAs(x, targetRef));
+        return referencedReferables.contains(targetRef);
     }
 
     public <T> void map(T value, AmlGenerator generator) throws MappingException {
@@ -80,6 +84,7 @@ public class MappingContext extends AbstractMappingContext<Mapper> {
                 classNamingStrategy,
                 propertyNamingStrategy,
                 environment,
+                environmentIndex,
                 referencedReferables,
                 property);
     }
@@ -90,6 +95,7 @@ public class MappingContext extends AbstractMappingContext<Mapper> {
                 classNamingStrategy,
                 propertyNamingStrategy,
                 environment,
+                environmentIndex,
                 referencedReferables,
                 null);
     }
@@ -101,4 +107,15 @@ public class MappingContext extends AbstractMappingContext<Mapper> {
     public AssetAdministrationShellEnvironment getEnvironment() {
         return environment;
     }
+
+    /**
+     * Gets the index of the environment. The index is created once per
+     * mapping and shared by all derived contexts, so it should be used instead
+     * of resolving references against the environment directly.
+     *
+     * @return the index of the environment
+     */
+    public EnvironmentIndex getEnvironmentIndex() {
+        return environmentIndex;
+    }
 }
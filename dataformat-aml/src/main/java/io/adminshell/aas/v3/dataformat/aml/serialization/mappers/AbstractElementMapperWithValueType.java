@@ -21,8 +21,8 @@ import io.adminshell.aas.v3.dataformat.aml.serialization.AmlGenerator;
 import io.adminshell.aas.v3.dataformat.aml.serialization.DefaultMapper;
 import io.adminshell.aas.v3.dataformat.aml.serialization.MappingContext;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.List;
@@ -53,9 +53,7 @@ public abstract class AbstractElementMapperWithValueType<T> extends DefaultMappe
     @Override
     protected InternalElementType.Builder toInternalElement(T value, AmlGenerator generator, MappingContext context) throws MappingException {
         InternalElementType original = super.toInternalElement(value, generator, context).build();
-        Optional<PropertyDescriptor> valueTypeProperty = AasUtils.getAasProperties(value.getClass()).stream()
-                .filter(x -> PROPERTY_VALUE_TYPE_NAME.equals(x.getName()))
-                .findFirst();
+        PropertyAccessor valueTypeProperty = AasUtils.getPropertyAccessor(value.getClass(), PROPERTY_VALUE_TYPE_NAME);
         List<AttributeType> untouchedAttributes = original.getAttribute().stream()
                 .filter(x -> !typedProperties.contains(x.getName()))
                 .collect(Collectors.toList());
@@ -73,10 +71,10 @@ public abstract class AbstractElementMapperWithValueType<T> extends DefaultMappe
                 typedAttributeBuilder = super.toAttribute(null, generator, context.with(AasUtils.getProperty(value, property)));
             }
             Object type = null;
-            if (valueTypeProperty.isPresent()) {
+            if (valueTypeProperty != null) {
                 try {
-                    type = valueTypeProperty.get().getReadMethod().invoke(value);
-                } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                    type = valueTypeProperty.get(value);
+                } catch (IllegalArgumentException | InvocationTargetException ex) {
                     throw new MappingException(String.format("error reading property %s", PROPERTY_VALUE_TYPE_NAME));
                 }
             }
@@ -93,9 +91,7 @@ public abstract class AbstractElementMapperWithValueType<T> extends DefaultMappe
     @Override
     protected AttributeType.Builder toAttribute(T value, AmlGenerator generator, MappingContext context) throws MappingException {
         AttributeType original = super.toAttribute(value, generator, context).build();
-        Optional<PropertyDescriptor> valueTypeProperty = AasUtils.getAasProperties(value.getClass()).stream()
-                .filter(x -> PROPERTY_VALUE_TYPE_NAME.equals(x.getName()))
-                .findFirst();
+        PropertyAccessor valueTypeProperty = AasUtils.getPropertyAccessor(value.getClass(), PROPERTY_VALUE_TYPE_NAME);
         List<AttributeType> untouchedAttributes = original.getAttribute().stream()
                 .filter(x -> !typedProperties.contains(x.getName()))
                 .collect(Collectors.toList());
@@ -114,10 +110,10 @@ public abstract class AbstractElementMapperWithValueType<T> extends DefaultMappe
                         .with(AasUtils.getProperty(value, property)));
             }
             Object type = null;
-            if (valueTypeProperty.isPresent()) {
+            if (valueTypeProperty != null) {
                 try {
-                    type = valueTypeProperty.get().getReadMethod().invoke(value);
-                } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                    type = valueTypeProperty.get(value);
+                } catch (IllegalArgumentException | InvocationTargetException ex) {
                     throw new MappingException(String.format("error reading property %s", PROPERTY_VALUE_TYPE_NAME));
                 }
             }
@@ -43,7 +43,7 @@ public class AssetAdministrationShellEnvironmentMapper extends DefaultMapper<Ass
         List<AssetAdministrationShell> assetAdministrationShells = value.getAssetAdministrationShells().stream()
                 .filter(x -> x.getSubmodels().stream()
                 .anyMatch(sm -> {
-                    Submodel submodel = AasUtils.resolve(sm, value, Submodel.class);
+                    Submodel submodel = AasUtils.resolve(sm, context.getEnvironmentIndex(), Submodel.class);
                     return submodel != null && submodel.getKind() != ModelingKind.TEMPLATE;
                 }))
                 .collect(Collectors.toList());
@@ -81,7 +81,7 @@ public class AssetAdministrationShellEnvironmentMapper extends DefaultMapper<Ass
         // generate SystemUnitClass for each AAS with at least 1 Submodel with kind == TEMPLATE
         // generate SystemUnitClass for each Submodel with king == TEMPLATE
         for (AssetAdministrationShell aas : env.getAssetAdministrationShells()) {
-            List<Submodel> submodelTemplates = AasUtils.getSubmodelTemplates(aas, env);
+            List<Submodel> submodelTemplates = AasUtils.getSubmodelTemplates(aas, context.getEnvironmentIndex());
             if (!submodelTemplates.isEmpty()) {
                 empty = false;
                 generator.clearIdCache();
@@ -46,7 +46,7 @@ public class AssetAdministrationShellMapper extends DefaultMapper<AssetAdministr
         InternalElementType.Builder builder = toInternalElement(aas, generator, context);
         boolean hasTemplateSubmodel = false;
         for (Reference reference : aas.getSubmodels()) {
-            Submodel resolvedSubmodel = AasUtils.resolve(reference, context.getEnvironment(), Submodel.class);
+            Submodel resolvedSubmodel = AasUtils.resolve(reference, context.getEnvironmentIndex(), Submodel.class);
             if (resolvedSubmodel != null) {
                 context.map(resolvedSubmodel, generator.with(builder));
                 if (resolvedSubmodel.getKind() == ModelingKind.TEMPLATE) {
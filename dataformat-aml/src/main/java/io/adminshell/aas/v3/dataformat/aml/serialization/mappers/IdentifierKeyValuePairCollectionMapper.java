@@ -20,6 +20,7 @@ import io.adminshell.aas.v3.dataformat.aml.serialization.AmlGenerator;
 import io.adminshell.aas.v3.dataformat.aml.serialization.MappingContext;
 import io.adminshell.aas.v3.dataformat.aml.model.caex.AttributeType;
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.dataformat.mapping.MappingException;
 import io.adminshell.aas.v3.model.AssetInformation;
 import io.adminshell.aas.v3.model.IdentifierKeyValuePair;
@@ -61,8 +62,8 @@ public class IdentifierKeyValuePairCollectionMapper extends DefaultMapper<Collec
 
     protected Object getElemenetPropertyValue(IdentifierKeyValuePair elemenet, PropertyDescriptor property, MappingContext context) throws MappingException {
         try {
-            return property.getReadMethod().invoke(elemenet);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+            return PropertyAccessor.of(property).get(elemenet);
+        } catch (IllegalArgumentException | InvocationTargetException ex) {
             throw new MappingException("failed to get property value for property " + property.getName(), ex);
         }
     }
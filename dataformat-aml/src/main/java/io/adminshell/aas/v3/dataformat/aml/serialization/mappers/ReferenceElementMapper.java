@@ -47,7 +47,7 @@ public class ReferenceElementMapper extends DefaultMapper<ReferenceElement> {
                 .withRoleRequirements(generator.roleRequirement(ReflectionHelper.getModelType(element.getClass())));
         AmlGenerator subGenerator = generator.with(builder);
         mapProperties(element, subGenerator, context);
-        Referable resolvedReference = AasUtils.resolve(element.getValue(), context.getEnvironment());
+        Referable resolvedReference = AasUtils.resolve(element.getValue(), context.getEnvironmentIndex());
         if (resolvedReference != null) {
             subGenerator.addExternalInterfaceForReference();
             subGenerator.addInternalLink(PROPERTY_VALUE_NAME, element, element.getValue());
@@ -55,7 +55,7 @@ public class RelationshipElementMapper extends DefaultMapper<RelationshipElement
     }
 
     private void mapProperty(RelationshipElement element, Reference reference, String name, AmlGenerator generator, MappingContext context) {
-        Referable resolvedReference = AasUtils.resolve(reference, context.getEnvironment());
+        Referable resolvedReference = AasUtils.resolve(reference, context.getEnvironmentIndex());
         if (resolvedReference != null) {
             generator.addExternalInterfaceForReference();
             generator.addInternalLink(name, element, reference);
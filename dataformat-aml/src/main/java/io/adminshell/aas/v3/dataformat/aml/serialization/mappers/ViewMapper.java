@@ -42,7 +42,7 @@ public class ViewMapper extends DefaultMapper<View> {
         InternalElementType.Builder builder = toInternalElement(view, generator, context);
         generator.with(builder).appendReferenceTargetInterfaceIfRequired(view, context);
         for (Reference reference : view.getContainedElements()) {
-            Referable referable = AasUtils.resolve(reference, context.getEnvironment());
+            Referable referable = AasUtils.resolve(reference, context.getEnvironmentIndex());
             builder.addInternalElement(InternalElementType.builder()
                     .withName(getInternalElementName(referable, context))
                     .withID(generator.newId())
@@ -16,6 +16,7 @@
 package io.adminshell.aas.v3.dataformat.aml.util;
 
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnvironmentIndex;
 import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementWalkerVisitor;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.Referable;
@@ -27,9 +28,15 @@ import java.util.Set;
 public class ReferencedByViewCollector {
 
     private AssetAdministrationShellEnvironment env;
+    private EnvironmentIndex index;
 
     public ReferencedByViewCollector(AssetAdministrationShellEnvironment env) {
+        this(env, new EnvironmentIndex(env));
+    }
+
+    public ReferencedByViewCollector(AssetAdministrationShellEnvironment env, EnvironmentIndex index) {
         this.env = env;
+        this.index = index;
     }
 
     public Set<Referable> collect() {
@@ -49,7 +56,7 @@ public class ReferencedByViewCollector {
         }
 
         private void handleReference(Reference reference) {
-            Referable target = AasUtils.resolve(reference, env);
+            Referable target = AasUtils.resolve(reference, index);
             if (target != null) {
                 referencedElements.add(target);
             }
@@ -16,23 +16,37 @@
 package io.adminshell.aas.v3.dataformat.aml.util;
 
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnvironmentIndex;
+import io.adminshell.aas.v3.dataformat.core.util.ReferenceSet;
 import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementWalkerVisitor;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.Referable;
 import io.adminshell.aas.v3.model.Reference;
 import io.adminshell.aas.v3.model.ReferenceElement;
 import io.adminshell.aas.v3.model.RelationshipElement;
-import java.util.HashSet;
 import java.util.Set;
 
 public class ReferencedReferableCollector {
 
     private AssetAdministrationShellEnvironment env;
+    private EnvironmentIndex index;
 
     public ReferencedReferableCollector(AssetAdministrationShellEnvironment env) {
+        this(env, new EnvironmentIndex(env));
+    }
+
+    public ReferencedReferableCollector(AssetAdministrationShellEnvironment env, EnvironmentIndex index) {
         this.env = env;
+        this.index = index;
     }
 
+    /**
+     * Collects all references to elements within the environment. As the
+     * result is a ReferenceSet, contains(...) compares references using
+     * AasUtils.sameAs(...).
+     *
+     * @return all references to elements within the environment
+     */
     public Set<Reference> collect() {
         Visitor visitor = new Visitor();
         visitor.visit(env);
@@ -41,7 +55,7 @@ public class ReferencedReferableCollector {
 
     private class Visitor implements AssetAdministrationShellElementWalkerVisitor {
 
-        Set<Reference> referencedElements = new HashSet<>();
+        Set<Reference> referencedElements = new ReferenceSet();
 
         @Override
         public void visit(ReferenceElement referenceElement) {
@@ -50,7 +64,7 @@ public class ReferencedReferableCollector {
         }
 
         private void handleReference(Reference reference) {
-            Referable target = AasUtils.resolve(reference, env);
+            Referable target = AasUtils.resolve(reference, index);
             if (target != null) {
                 referencedElements.add(reference);
             }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.aml.common.naming;
+
+import io.adminshell.aas.v3.model.KeyElements;
+import io.adminshell.aas.v3.model.KeyType;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.impl.DefaultKey;
+import io.adminshell.aas.v3.model.impl.DefaultReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumberingClassNamingStrategyTest {
+
+    @Test
+    public void testNamedObjectsAreHashedOnlyOnce() {
+        NumberingClassNamingStrategy namingStrategy = new NumberingClassNamingStrategy();
+        CountingReference reference = new CountingReference();
+        String name = namingStrategy.getName(Reference.class, reference, null);
+        Assert.assertEquals(1, reference.hashCodeCalls);
+        Assert.assertEquals(name, namingStrategy.getName(Reference.class, reference, null));
+        Assert.assertEquals(name, namingStrategy.getName(Reference.class, reference, null));
+        Assert.assertEquals(1, reference.hashCodeCalls);
+    }
+
+    @Test
+    public void testEqualObjectsGetSameName() {
+        NumberingClassNamingStrategy namingStrategy = new NumberingClassNamingStrategy();
+        CountingReference reference = new CountingReference();
+        CountingReference equalReference = new CountingReference();
+        Assert.assertEquals(namingStrategy.getName(Reference.class, reference, null),
+                namingStrategy.getName(Reference.class, equalReference, null));
+        Assert.assertEquals(1, equalReference.hashCodeCalls);
+    }
+
+    private static class CountingReference extends DefaultReference {
+
+        private int hashCodeCalls;
+
+        private CountingReference() {
+            getKeys().add(new DefaultKey.Builder()
+                    .type(KeyElements.SUBMODEL)
+                    .idType(KeyType.IRI)
+                    .value("http://example.org/submodel")
+                    .build());
+        }
+
+        @Override
+        public int hashCode() {
+            hashCodeCalls++;
+            return super.hashCode();
+        }
+    }
+}
@@ -15,20 +15,26 @@
  */
 package io.adminshell.aas.v3.dataformat;
 
-import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
+import io.adminshell.aas.v3.dataformat.core.util.ByteBufferInputStream;
 import io.adminshell.aas.v3.model.*;
 
 /**
- * Generic deserializer interface to deserialize a given string, Outputstream or
- * java.io.File into an instance of AssetAdministrationShellEnvironment
+ * Generic deserializer interface to deserialize a given string, Reader,
+ * InputStream, java.io.File or java.nio.file.Path into an instance of AssetAdministrationShellEnvironment
  */
 public interface Deserializer {
 
@@ -48,6 +54,27 @@ public interface Deserializer {
      */
     AssetAdministrationShellEnvironment read(String value) throws DeserializationException;
 
+    /**
+     * Deserializes a given Reader into an instance of
+     * AssetAdministrationShellEnvironment. Implementations should override
+     * this method to pass the reader directly to the underlying parser instead
+     * of reading the whole input into a string first.
+     *
+     * @param reader a Reader providing the string representation of the
+     * AssetAdministrationShellEnvironment
+     * @return an instance of AssetAdministrationShellEnvironment
+     * @throws DeserializationException if deserialization fails
+     */
+    default AssetAdministrationShellEnvironment read(Reader reader) throws DeserializationException {
+        StringWriter writer = new StringWriter();
+        try {
+            reader.transferTo(writer);
+        } catch (IOException ex) {
+            throw new DeserializationException("error reading input", ex);
+        }
+        return read(writer.toString());
+    }
+
     /**
      * Deserializes a given InputStream into an instance of
      * AssetAdministrationShellEnvironment using DEFAULT_CHARSET
@@ -72,10 +99,7 @@ public interface Deserializer {
      * @throws DeserializationException if deserialization fails
      */
     default AssetAdministrationShellEnvironment read(InputStream src, Charset charset) throws DeserializationException {
-        return read(new BufferedReader(
-                new InputStreamReader(src, charset))
-                .lines()
-                .collect(Collectors.joining(System.lineSeparator())));
+        return read(new InputStreamReader(src, charset));
     }
 
     /**
@@ -108,6 +132,45 @@ public interface Deserializer {
         return read(file, DEFAULT_CHARSET);
     }
 
+    /**
+     * Deserializes a given Path into an instance of
+     * AssetAdministrationShellEnvironment using DEFAULT_CHARSET
+     *
+     * @param path a java.nio.file.Path containing the string representation of
+     * the AssetAdministrationShellEnvironment
+     * @return an instance of AssetAdministrationShellEnvironment
+     * @throws IOException if the file can not be read
+     * @throws DeserializationException if deserialization fails
+     */
+    default AssetAdministrationShellEnvironment read(Path path) throws IOException, DeserializationException {
+        return read(path, DEFAULT_CHARSET);
+    }
+
+    /**
+     * Deserializes a given Path into an instance of
+     * AssetAdministrationShellEnvironment using a given charset. The file is
+     * memory-mapped so that its content is streamed to the parser without
+     * being copied to the heap. Files exceeding the maximum size of a single
+     * mapping (2 GB) are read as a regular stream.
+     *
+     * @param path a java.nio.file.Path containing the string representation of
+     * the AssetAdministrationShellEnvironment
+     * @param charset the charset to use for deserialization
+     * @return an instance of AssetAdministrationShellEnvironment
+     * @throws IOException if the file can not be read
+     * @throws DeserializationException if deserialization fails
+     */
+    default AssetAdministrationShellEnvironment read(Path path, Charset charset) throws IOException, DeserializationException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                try (InputStream src = Files.newInputStream(path)) {
+                    return read(src, charset);
+                }
+            }
+            return read(new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())), charset);
+        }
+    }
+
     /**
      * Enables usage of custom implementation to be used for deserialization
      * instead of default implementation, e.g. defining a custom implementation
@@ -122,6 +185,8 @@ public interface Deserializer {
      * @param aasInterface the class of the interface to replace
      * @param implementation the class implementing the interface that should be
      * used for deserialization.
+     * @throws UnsupportedOperationException if the deserializer is immutable,
+     * e.g. because it has been created via a builder
      */
     <T> void useImplementation(Class<T> aasInterface, Class<? extends T> implementation);
 
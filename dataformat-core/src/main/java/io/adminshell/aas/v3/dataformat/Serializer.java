@@ -20,6 +20,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -27,7 +28,8 @@ import io.adminshell.aas.v3.model.*;
 
 /**
  * Generic serializer interface to serialize an instance of
- * AssetAdministrationShellEnvironment to a string, Outputstream or java.io.File
+ * AssetAdministrationShellEnvironment to a string, Writer, Outputstream or
+ * java.io.File
  */
 public interface Serializer {
 
@@ -47,6 +49,23 @@ public interface Serializer {
      */
     String write(AssetAdministrationShellEnvironment aasEnvironment) throws SerializationException;
 
+    /**
+     * Serializes a given instance of AssetAdministrationShellEnvironment to a
+     * Writer. The writer is flushed but not closed. Implementations should
+     * override this method to write directly to the writer instead of
+     * building the whole document as a string first.
+     *
+     * @param writer the Writer to serialize to
+     * @param aasEnvironment the AssetAdministrationShellEnvironment to
+     * serialize
+     * @throws IOException if writing to the writer fails
+     * @throws SerializationException if serialization fails
+     */
+    default void write(Writer writer, AssetAdministrationShellEnvironment aasEnvironment) throws IOException, SerializationException {
+        writer.write(write(aasEnvironment));
+        writer.flush();
+    }
+
     /**
      * Serializes a given instance of AssetAdministrationShellEnvironment to an
      * OutputStream using DEFAULT_CHARSET
@@ -75,7 +94,7 @@ public interface Serializer {
     default void write(OutputStream out, Charset charset, AssetAdministrationShellEnvironment aasEnvironment)
             throws IOException, SerializationException {
         try (OutputStreamWriter writer = new OutputStreamWriter(out, charset)) {
-            writer.write(write(aasEnvironment));
+            write(writer, aasEnvironment);
         }
     }
 
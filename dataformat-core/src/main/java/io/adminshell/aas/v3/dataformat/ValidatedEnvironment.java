@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat;
+
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Result of deserializing an AssetAdministrationShellEnvironment while
+ * validating it against a schema, i.e. the environment together with the
+ * schema validation messages.
+ */
+public class ValidatedEnvironment {
+
+    private final AssetAdministrationShellEnvironment environment;
+    private final Set<String> messages;
+
+    public ValidatedEnvironment(AssetAdministrationShellEnvironment environment, Set<String> messages) {
+        this.environment = environment;
+        this.messages = Collections.unmodifiableSet(messages);
+    }
+
+    public AssetAdministrationShellEnvironment getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Returns the schema validation messages
+     *
+     * @return Set of validation errors. If validation succeeds, the Set is
+     * empty.
+     */
+    public Set<String> getMessages() {
+        return messages;
+    }
+
+    public boolean isValid() {
+        return messages.isEmpty();
+    }
+}
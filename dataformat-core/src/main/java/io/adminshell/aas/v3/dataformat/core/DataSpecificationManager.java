@@ -15,9 +15,11 @@
  */
 package io.adminshell.aas.v3.dataformat.core;
 
-import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.ReferenceMap;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import io.adminshell.aas.v3.model.DataSpecificationContent;
@@ -27,9 +29,10 @@ import io.adminshell.aas.v3.model.KeyType;
 import io.adminshell.aas.v3.model.Reference;
 import io.adminshell.aas.v3.model.impl.DefaultKey;
 import io.adminshell.aas.v3.model.impl.DefaultReference;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.function.Predicate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class is used to manage supported data specification templates. Each
@@ -43,7 +46,8 @@ public class DataSpecificationManager {
     public static final String DATA_SPECIFICATION_IEC61360_IRI = "http://admin-shell.io/DataSpecificationTemplates/DataSpecificationIEC61360/2/0";
     public static final String DATA_SPECIFICATION_IEC61360_PREFIX = "IEC";
 
-    private static final Set<DataSpecificationInfo> KNOWN_IMPLEMENTATIONS = new HashSet<>(Arrays.asList(
+    // registrations replace the whole registry so that lookups never need to lock
+    private static volatile Registry registry = new Registry(Arrays.asList(
             new DataSpecificationInfo(DataSpecificationIEC61360.class,
                     createGlobalIri(DATA_SPECIFICATION_IEC61360_IRI),
                     DATA_SPECIFICATION_IEC61360_PREFIX)));
@@ -54,8 +58,13 @@ public class DataSpecificationManager {
      * @param dataSpecification Details of the data specification template to
      * register
      */
-    public static void register(DataSpecificationInfo dataSpecification) {
-        KNOWN_IMPLEMENTATIONS.add(dataSpecification);
+    public static synchronized void register(DataSpecificationInfo dataSpecification) {
+        if (registry.implementations.contains(dataSpecification)) {
+            return;
+        }
+        List<DataSpecificationInfo> implementations = new ArrayList<>(registry.implementations);
+        implementations.add(dataSpecification);
+        registry = new Registry(implementations);
     }
 
     private static Reference createGlobalIri(String iri) {
@@ -67,6 +76,8 @@ public class DataSpecificationManager {
     /**
      * Returns a DataSpecificationInfo describing the data specification
      * template implemented by the given class. If the class is unknown, null is
+     * returned. If there is no template registered for exactly this class, the
+     * template with the most specific type the class is assignable to is
      * returned.
      *
      * @param implementation type of the implementation class
@@ -75,11 +86,14 @@ public class DataSpecificationManager {
      * class does not represent any data specification
      */
     public static DataSpecificationInfo getDataSpecification(Class<? extends DataSpecificationContent> implementation) {
-        DataSpecificationInfo result = getDataSpecification(x -> Objects.equals(x.getType(), implementation));
-        if (result == null) {
-            result = getDataSpecification(x -> x.getType().isAssignableFrom(implementation));
+        Registry current = registry;
+        DataSpecificationInfo result = current.implementationsByType.get(implementation);
+        if (result != null || implementation == null) {
+            return result;
         }
-        return result;
+        return current.implementationsBySubtype
+                .computeIfAbsent(implementation, x -> Optional.ofNullable(current.findMostSpecific(x)))
+                .orElse(null);
     }
 
     /**
@@ -93,16 +107,41 @@ public class DataSpecificationManager {
      * represent any data specification
      */
     public static DataSpecificationInfo getDataSpecification(Reference reference) {
-        return getDataSpecification(x -> AasUtils.sameAs(x.getReference(), reference));
+        return registry.implementationsByReference.get(reference);
     }
 
-    private static DataSpecificationInfo getDataSpecification(Predicate<DataSpecificationInfo> filter) {
-        Optional<DataSpecificationInfo> exactMatch = KNOWN_IMPLEMENTATIONS.stream()
-                .filter(filter)
-                .findFirst();
-        if (exactMatch.isPresent()) {
-            return exactMatch.get();
+    /**
+     * Immutable snapshot of all registered data specifications including
+     * indices by reference and by type. Only the cache of subtype lookups is
+     * filled lazily.
+     */
+    private static class Registry {
+
+        private final List<DataSpecificationInfo> implementations;
+        private final Map<Reference, DataSpecificationInfo> implementationsByReference = new ReferenceMap<>();
+        private final Map<Class<?>, DataSpecificationInfo> implementationsByType = new HashMap<>();
+        private final ConcurrentMap<Class<?>, Optional<DataSpecificationInfo>> implementationsBySubtype = new ConcurrentHashMap<>();
+
+        private Registry(List<DataSpecificationInfo> implementations) {
+            this.implementations = Collections.unmodifiableList(new ArrayList<>(implementations));
+            for (DataSpecificationInfo implementation : implementations) {
+                implementationsByReference.putIfAbsent(implementation.getReference(), implementation);
+                implementationsByType.putIfAbsent(implementation.getType(), implementation);
+            }
+        }
+
+        private DataSpecificationInfo findMostSpecific(Class<?> implementation) {
+            DataSpecificationInfo result = null;
+            for (DataSpecificationInfo candidate : implementations) {
+                if (candidate.getType() == null || !candidate.getType().isAssignableFrom(implementation)) {
+                    continue;
+                }
+                if (result == null
+                        || (result.getType() != candidate.getType() && result.getType().isAssignableFrom(candidate.getType()))) {
+                    result = candidate;
+                }
+            }
+            return result;
         }
-        return null;
     }
 }
@@ -18,11 +18,13 @@ package io.adminshell.aas.v3.dataformat.core;
 import com.google.common.reflect.TypeToken;
 import io.adminshell.aas.v3.dataformat.core.util.MostSpecificTypeTokenComparator;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ClassUtils;
@@ -117,6 +119,32 @@ public class ReflectionHelper {
      * List of enums from the MODEL_PACKAGE_NAME package.
      */
     public static final List<Class<Enum>> ENUMS;
+    /**
+     * Indexes derived from the scan results above to avoid linear lookups on
+     * every call as these methods are called per property by the Jackson
+     * introspectors and mappers.
+     */
+    private static final Map<Class<?>, Class<?>> INTERFACE_TO_IMPLEMENTATION;
+    private static final Map<Class<?>, Class<?>> IMPLEMENTATION_TO_INTERFACE;
+    private static final Map<Class<?>, Set<Class<?>>> SUPERTYPES;
+    private static final Map<Class<?>, Set<Class<?>>> SUPERTYPES_RECURSIVE;
+    /**
+     * Sections of the type information that have been loaded from the
+     * TypeIndex instead of being scanned
+     */
+    private static final Set<String> INDEXED_SECTIONS = new HashSet<>();
+    private static final ClassValue<Optional<Class<?>>> MOST_SPECIFIC_TYPE_WITH_MODEL_TYPE = new ClassValue<>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(computeMostSpecificTypeWithModelType(type));
+        }
+    };
+    private static final ClassValue<Optional<String>> MODEL_TYPE = new ClassValue<>() {
+        @Override
+        protected Optional<String> computeValue(Class<?> type) {
+            return Optional.ofNullable(computeModelType(type));
+        }
+    };
 
     public static class ImplementationInfo<T> {
 
@@ -156,7 +184,7 @@ public class ReflectionHelper {
      * @return whether the given class is a default implementation or not
      */
     public static boolean isDefaultImplementation(Class<?> type) {
-        return DEFAULT_IMPLEMENTATIONS.stream().anyMatch(x -> Objects.equals(x.getImplementationType(), type));
+        return IMPLEMENTATION_TO_INTERFACE.containsKey(type);
     }
 
     /**
@@ -166,7 +194,7 @@ public class ReflectionHelper {
      * @return whether the given interface has a default implementation or not
      */
     public static boolean hasDefaultImplementation(Class<?> interfaceType) {
-        return DEFAULT_IMPLEMENTATIONS.stream().anyMatch(x -> x.getInterfaceType().equals(interfaceType));
+        return INTERFACE_TO_IMPLEMENTATION.containsKey(interfaceType);
     }
 
     /**
@@ -181,13 +209,7 @@ public class ReflectionHelper {
         if (isDefaultImplementation(interfaceType)) {
             return interfaceType;
         }
-        if (hasDefaultImplementation(interfaceType)) {
-            return DEFAULT_IMPLEMENTATIONS.stream()
-                    .filter(x -> x.getInterfaceType().equals(interfaceType))
-                    .findFirst().get()
-                    .getImplementationType();
-        }
-        return null;
+        return (Class<? extends T>) INTERFACE_TO_IMPLEMENTATION.get(interfaceType);
     }
 
     /**
@@ -237,6 +259,10 @@ public class ReflectionHelper {
      * type information or type information should not be included
      */
     public static String getModelType(Class<?> clazz) {
+        return MODEL_TYPE.get(clazz).orElse(null);
+    }
+
+    private static String computeModelType(Class<?> clazz) {
         Class<?> type = getMostSpecificTypeWithModelType(clazz);
         if (type != null) {
             return type.getSimpleName();
@@ -266,6 +292,10 @@ public class ReflectionHelper {
         if (clazz == null) {
             return null;
         }
+        return MOST_SPECIFIC_TYPE_WITH_MODEL_TYPE.get(clazz).orElse(null);
+    }
+
+    private static Class<?> computeMostSpecificTypeWithModelType(Class<?> clazz) {
         return TYPES_WITH_MODEL_TYPE.stream()
                 .filter(x -> clazz.isInterface() ? x.equals(clazz) : x.isAssignableFrom(clazz))
                 .sorted((Class<?> o1, Class<?> o2) -> {
@@ -288,36 +318,145 @@ public class ReflectionHelper {
     }
 
     static {
-        ScanResult modelScan = new ClassGraph()
+        TypeIndex index = TypeIndex.load(ReflectionHelper.class.getClassLoader());
+        ModelInfo modelInfo = loadModelInfo(index);
+        if (modelInfo == null) {
+            modelInfo = scanModelInfo();
+        }
+        TYPES_WITH_MODEL_TYPE = modelInfo.typesWithModelType;
+        SUBTYPES = modelInfo.subtypes;
+        DEFAULT_IMPLEMENTATIONS = modelInfo.defaultImplementations;
+        ENUMS = modelInfo.enums;
+        JSON_MIXINS = loadMixins(index, TypeIndex.SECTION_JSON_MIXINS, JSON_MIXINS_PACKAGE_NAME);
+        XML_MIXINS = loadMixins(index, TypeIndex.SECTION_XML_MIXINS, XML_MIXINS_PACKAGE_NAME);
+        INTERFACE_TO_IMPLEMENTATION = new HashMap<>();
+        IMPLEMENTATION_TO_INTERFACE = new HashMap<>();
+        for (ImplementationInfo<?> info : DEFAULT_IMPLEMENTATIONS) {
+            INTERFACE_TO_IMPLEMENTATION.putIfAbsent(info.getInterfaceType(), info.getImplementationType());
+            IMPLEMENTATION_TO_INTERFACE.putIfAbsent(info.getImplementationType(), info.getInterfaceType());
+        }
+        SUPERTYPES = indexSuperTypes(SUBTYPES);
+        SUPERTYPES_RECURSIVE = new HashMap<>();
+        SUPERTYPES.keySet().forEach(x -> collectSuperTypesRecursive(x, SUPERTYPES_RECURSIVE));
+        INTERFACES = scanAasInterfaces();
+        INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION = modelInfo.interfacesWithoutDefaultImplementation != null
+                ? modelInfo.interfacesWithoutDefaultImplementation
+                : getInterfacesWithoutDefaultImplementation(modelInfo.modelScan);
+    }
+
+    /**
+     * Returns whether the given section of the type information has been
+     * loaded from the TypeIndex
+     *
+     * @param section the section, see TypeIndex.SECTION_*
+     * @return whether the section has been loaded from the TypeIndex
+     */
+    static boolean isIndexed(String section) {
+        return INDEXED_SECTIONS.contains(section);
+    }
+
+    /**
+     * Type information about the model package, either loaded from the
+     * TypeIndex or scanned from the classpath.
+     */
+    static class ModelInfo {
+
+        ScanResult modelScan;
+        Set<Class<?>> typesWithModelType;
+        Map<Class<?>, Set<Class<?>>> subtypes;
+        List<ImplementationInfo> defaultImplementations;
+        List<Class<Enum>> enums;
+        Set<Class<?>> interfacesWithoutDefaultImplementation;
+    }
+
+    private static ModelInfo loadModelInfo(TypeIndex index) {
+        if (!index.hasSection(TypeIndex.SECTION_MODEL)) {
+            return null;
+        }
+        if (!index.isModelUpToDate()) {
+            logger.info("type index does not match the version of the model library, falling back to classpath scanning");
+            return null;
+        }
+        try {
+            ModelInfo result = new ModelInfo();
+            result.typesWithModelType = index.getTypesWithModelType();
+            result.subtypes = index.getSubtypes();
+            result.defaultImplementations = index.getDefaultImplementations();
+            result.enums = index.getEnums();
+            result.interfacesWithoutDefaultImplementation = index.getInterfacesWithoutDefaultImplementation();
+            INDEXED_SECTIONS.add(TypeIndex.SECTION_MODEL);
+            return result;
+        } catch (ClassNotFoundException ex) {
+            logger.warn("type index is out of date, falling back to classpath scanning", ex);
+            return null;
+        }
+    }
+
+    static ModelInfo scanModelInfo() {
+        ModelInfo result = new ModelInfo();
+        result.modelScan = new ClassGraph()
                 .enableClassInfo()
                 .acceptPackagesNonRecursive(MODEL_PACKAGE_NAME)
                 .scan();
-        TYPES_WITH_MODEL_TYPE = scanModelTypes(modelScan);
-        SUBTYPES = scanSubtypes(modelScan);
-        JSON_MIXINS = scanMixins(modelScan, JSON_MIXINS_PACKAGE_NAME);
-        XML_MIXINS = scanMixins(modelScan, XML_MIXINS_PACKAGE_NAME);
-        DEFAULT_IMPLEMENTATIONS = scanDefaultImplementations(modelScan);
-        INTERFACES = scanAasInterfaces();
-        ENUMS = modelScan.getAllEnums().loadClasses(Enum.class);
-        INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION = getInterfacesWithoutDefaultImplementation(modelScan);
+        result.typesWithModelType = scanModelTypes(result.modelScan);
+        result.subtypes = scanSubtypes(result.modelScan);
+        result.defaultImplementations = scanDefaultImplementations(result.modelScan);
+        result.enums = result.modelScan.getAllEnums().loadClasses(Enum.class);
+        return result;
+    }
+
+    private static Map<Class<?>, Class<?>> loadMixins(TypeIndex index, String section, String packageName) {
+        if (index.isEmpty()) {
+            return scanMixins(packageName);
+        }
+        if (!index.hasSection(section)) {
+            // the module providing the mixins would have indexed them
+            return new HashMap<>();
+        }
+        try {
+            Map<Class<?>, Class<?>> result = TypeIndex.SECTION_JSON_MIXINS.equals(section)
+                    ? index.getJsonMixins()
+                    : index.getXmlMixins();
+            INDEXED_SECTIONS.add(section);
+            return result;
+        } catch (ClassNotFoundException ex) {
+            logger.warn("type index is out of date, falling back to classpath scanning", ex);
+            return scanMixins(packageName);
+        }
     }
 
-    private static Set<Class<?>> getInterfacesWithoutDefaultImplementation(ScanResult modelScan) {
+    static Set<Class<?>> getInterfacesWithoutDefaultImplementation(ScanResult modelScan) {
         return modelScan.getAllInterfaces().loadClasses().stream()
                 .filter(x -> !hasDefaultImplementation(x))
                 .collect(Collectors.toSet());
     }
 
     public static Set<Class<?>> getSuperTypes(Class<?> clazz, boolean recursive) {
-        Set<Class<?>> result = SUBTYPES.entrySet().stream()
-                .filter(x -> x.getValue().contains(clazz))
-                .map(x -> x.getKey())
-                .collect(Collectors.toSet());
-        if (recursive) {
-            result.addAll(result.stream()
-                    .flatMap(x -> getSuperTypes(x, true).stream())
-                    .collect(Collectors.toSet()));
+        Set<Class<?>> result = recursive
+                ? SUPERTYPES_RECURSIVE.get(clazz)
+                : SUPERTYPES.get(clazz);
+        return result != null
+                ? new HashSet<>(result)
+                : new HashSet<>();
+    }
+
+    private static Map<Class<?>, Set<Class<?>>> indexSuperTypes(Map<Class<?>, Set<Class<?>>> subtypes) {
+        Map<Class<?>, Set<Class<?>>> result = new HashMap<>();
+        subtypes.forEach((superType, types) -> types.forEach(x -> result.computeIfAbsent(x, y -> new HashSet<>()).add(superType)));
+        return result;
+    }
+
+    private static Set<Class<?>> collectSuperTypesRecursive(Class<?> clazz, Map<Class<?>, Set<Class<?>>> cache) {
+        Set<Class<?>> result = cache.get(clazz);
+        if (result != null) {
+            return result;
+        }
+        result = new HashSet<>();
+        for (Class<?> superType : SUPERTYPES.getOrDefault(clazz, Collections.emptySet())) {
+            result.add(superType);
+            result.addAll(collectSuperTypesRecursive(superType, cache));
         }
+        cache.put(clazz, result);
         return result;
     }
 
@@ -339,7 +478,7 @@ public class ReflectionHelper {
                     } else {
                         Class<?> implementedClass = interfaceClassInfos.get(0).loadClass();
                         defaultImplementations.add(new ImplementationInfo(implementedClass, x));
-                        logger.info("using default implementation class '{}' for interface '{}'",
+                        logger.debug("using default implementation class '{}' for interface '{}'",
                                 x.getSimpleName(),
                                 interfaceClassInfos.get(0).getName());
 
@@ -352,7 +491,7 @@ public class ReflectionHelper {
         return DEFAULT_IMPLEMENTATIONS.stream().map(x -> x.interfaceType).collect(Collectors.toSet());
     }
 
-    private static Map<Class<?>, Class<?>> scanMixins(ScanResult modelScan, String packageName) {
+    private static Map<Class<?>, Class<?>> scanMixins(String packageName) {
         ScanResult mixinScan = new ClassGraph()
                 .enableClassInfo()
                 .acceptPackagesNonRecursive(packageName)
@@ -362,15 +501,14 @@ public class ReflectionHelper {
                 .filter(x -> x.getSimpleName().endsWith(MIXIN_SUFFIX))
                 .loadClasses()
                 .forEach(x -> {
-                    String modelClassName = x.getSimpleName().substring(0, x.getSimpleName().length() - MIXIN_SUFFIX.length());
-                    ClassInfoList modelClassInfos = modelScan.getAllClasses().filter(y -> Objects.equals(y.getSimpleName(), modelClassName));
-                    if (modelClassInfos.isEmpty()) {
-                        logger.warn("could not auto-resolve target class for mixin '{}'", x.getSimpleName());
-                    } else {
-                        mixins.put(modelClassInfos.get(0).loadClass(), x);
-                        logger.info("using mixin '{}' for class '{}'",
+                    String modelClassName = MODEL_PACKAGE_NAME + "." + x.getSimpleName().substring(0, x.getSimpleName().length() - MIXIN_SUFFIX.length());
+                    try {
+                        mixins.put(Class.forName(modelClassName, false, x.getClassLoader()), x);
+                        logger.debug("using mixin '{}' for class '{}'",
                                 x.getSimpleName(),
-                                modelClassInfos.get(0).getName());
+                                modelClassName);
+                    } catch (ClassNotFoundException ex) {
+                        logger.warn("could not auto-resolve target class for mixin '{}'", x.getSimpleName());
                     }
                 });
         return mixins;
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.ReflectionHelper.ImplementationInfo;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the type information otherwise collected by ReflectionHelper via
+ * classpath scanning. The index is generated at build time by running the
+ * main method of this class (see the exec-maven-plugin configuration of the
+ * dataformat-core, -json and -xml modules) and loaded from all resources named
+ * RESOURCE_NAME on the classpath. ReflectionHelper only scans the classpath if
+ * no index resource is found at all. Otherwise, a missing mixin section means
+ * that there are no mixins for that format.
+ *
+ * Each line of an index resource consists of an entry kind followed by one or
+ * more whitespace-separated class names, e.g.
+ * <pre>
+ * model.implementation io.adminshell.aas.v3.model.Property io.adminshell.aas.v3.model.impl.DefaultProperty
+ * </pre>
+ *
+ * The model section also records the version of the model library the index
+ * has been generated from. As the model library is referenced by a version
+ * range, the version used at runtime may differ from the one resolved at build
+ * time. The model section is only used for the exact version it has been
+ * generated from, otherwise ReflectionHelper scans the classpath instead.
+ */
+public class TypeIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypeIndex.class);
+    /**
+     * Name of the classpath resource(s) containing the type index
+     */
+    public static final String RESOURCE_NAME = "META-INF/io.admin-shell.aas/type-index.txt";
+    /**
+     * System property that disables loading the type index if set to true,
+     * i.e. forces ReflectionHelper to scan the classpath.
+     */
+    public static final String DISABLED_PROPERTY = "io.adminshell.aas.v3.dataformat.typeindex.disabled";
+    public static final String SECTION_MODEL = "model";
+    public static final String SECTION_JSON_MIXINS = "jsonMixins";
+    public static final String SECTION_XML_MIXINS = "xmlMixins";
+    private static final String SECTION_DECLARATION = "section";
+    private static final String TYPE_WITH_MODEL_TYPE = SECTION_MODEL + ".typeWithModelType";
+    private static final String SUBTYPES = SECTION_MODEL + ".subtypes";
+    private static final String IMPLEMENTATION = SECTION_MODEL + ".implementation";
+    private static final String ENUM = SECTION_MODEL + ".enum";
+    private static final String INTERFACE_WITHOUT_DEFAULT_IMPLEMENTATION = SECTION_MODEL + ".interfaceWithoutDefaultImplementation";
+    private static final String MODEL_VERSION = SECTION_MODEL + ".version";
+    private static final String MODEL_POM_PROPERTIES = "META-INF/maven/io.admin-shell.aas/model/pom.properties";
+    private static final String UNKNOWN = "unknown";
+    private static final String JSON_MIXIN = SECTION_JSON_MIXINS + ".mixin";
+    private static final String XML_MIXIN = SECTION_XML_MIXINS + ".mixin";
+
+    private final Set<String> sections = new HashSet<>();
+    private final Map<String, List<String[]>> entries = new HashMap<>();
+    private final ClassLoader classLoader;
+
+    private TypeIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Loads and merges all type index resources visible to the given class
+     * loader. Returns an empty index if loading is disabled via
+     * DISABLED_PROPERTY or if no resource is found.
+     *
+     * @param classLoader the class loader to load the resources and classes
+     * with
+     * @return the merged type index
+     */
+    static TypeIndex load(ClassLoader classLoader) {
+        TypeIndex result = new TypeIndex(classLoader);
+        if (Boolean.getBoolean(DISABLED_PROPERTY)) {
+            return result;
+        }
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+            while (resources.hasMoreElements()) {
+                result.read(resources.nextElement());
+            }
+        } catch (IOException ex) {
+            logger.warn("error reading type index, falling back to classpath scanning", ex);
+            result.sections.clear();
+            result.entries.clear();
+        }
+        return result;
+    }
+
+    private void read(URL resource) throws IOException {
+        logger.debug("reading type index from '{}'", resource);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                if (SECTION_DECLARATION.equals(tokens[0])) {
+                    sections.addAll(Arrays.asList(tokens).subList(1, tokens.length));
+                } else {
+                    entries.computeIfAbsent(tokens[0], x -> new ArrayList<>())
+                            .add(Arrays.copyOfRange(tokens, 1, tokens.length));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given section is contained in the index
+     *
+     * @param section the section to check
+     * @return whether the given section is contained in the index
+     */
+    boolean hasSection(String section) {
+        return sections.contains(section);
+    }
+
+    /**
+     * Returns whether no index resource has been loaded
+     *
+     * @return whether no index resource has been loaded
+     */
+    boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    /**
+     * Returns whether the model section has been generated from the version
+     * of the model library currently on the classpath. This only reads the
+     * maven metadata of the model library and does not scan the classpath.
+     *
+     * @return whether the model section is up to date
+     */
+    boolean isModelUpToDate() {
+        List<String[]> versions = getEntries(MODEL_VERSION);
+        if (versions.isEmpty()) {
+            logger.debug("type index does not contain model version");
+            return false;
+        }
+        String currentVersion = getModelVersion(classLoader);
+        if (UNKNOWN.equals(currentVersion)) {
+            logger.debug("version of model library unknown");
+            return false;
+        }
+        for (String[] version : versions) {
+            if (!Objects.equals(version[0], currentVersion)) {
+                logger.debug("type index was generated for model version {} but found {}", version[0], currentVersion);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the version of the model library as declared by its maven
+     * metadata or "unknown" if not available
+     *
+     * @param classLoader the class loader to load the maven metadata with
+     * @return the version of the model library
+     */
+    static String getModelVersion(ClassLoader classLoader) {
+        try (InputStream input = classLoader.getResourceAsStream(MODEL_POM_PROPERTIES)) {
+            if (input != null) {
+                Properties properties = new Properties();
+                properties.load(input);
+                return properties.getProperty("version", UNKNOWN);
+            }
+        } catch (IOException ex) {
+            logger.debug("error reading model version from '{}'", MODEL_POM_PROPERTIES, ex);
+        }
+        return UNKNOWN;
+    }
+
+    Set<Class<?>> getTypesWithModelType() throws ClassNotFoundException {
+        Set<Class<?>> result = new HashSet<>();
+        for (String[] entry : getEntries(TYPE_WITH_MODEL_TYPE)) {
+            result.add(loadClass(entry[0]));
+        }
+        return result;
+    }
+
+    Map<Class<?>, Set<Class<?>>> getSubtypes() throws ClassNotFoundException {
+        Map<Class<?>, Set<Class<?>>> result = new HashMap<>();
+        for (String[] entry : getEntries(SUBTYPES)) {
+            Set<Class<?>> subtypes = new HashSet<>();
+            for (int i = 1; i < entry.length; i++) {
+                subtypes.add(loadClass(entry[i]));
+            }
+            result.put(loadClass(entry[0]), subtypes);
+        }
+        return result;
+    }
+
+    List<ImplementationInfo> getDefaultImplementations() throws ClassNotFoundException {
+        List<ImplementationInfo> result = new ArrayList<>();
+        for (String[] entry : getEntries(IMPLEMENTATION)) {
+            result.add(new ImplementationInfo(loadClass(entry[0]), loadClass(entry[1])));
+        }
+        return result;
+    }
+
+    List<Class<Enum>> getEnums() throws ClassNotFoundException {
+        List<Class<Enum>> result = new ArrayList<>();
+        for (String[] entry : getEntries(ENUM)) {
+            result.add((Class<Enum>) loadClass(entry[0]));
+        }
+        return result;
+    }
+
+    Set<Class<?>> getInterfacesWithoutDefaultImplementation() throws ClassNotFoundException {
+        Set<Class<?>> result = new HashSet<>();
+        for (String[] entry : getEntries(INTERFACE_WITHOUT_DEFAULT_IMPLEMENTATION)) {
+            result.add(loadClass(entry[0]));
+        }
+        return result;
+    }
+
+    Map<Class<?>, Class<?>> getJsonMixins() throws ClassNotFoundException {
+        return getMixins(JSON_MIXIN);
+    }
+
+    Map<Class<?>, Class<?>> getXmlMixins() throws ClassNotFoundException {
+        return getMixins(XML_MIXIN);
+    }
+
+    private Map<Class<?>, Class<?>> getMixins(String kind) throws ClassNotFoundException {
+        Map<Class<?>, Class<?>> result = new HashMap<>();
+        for (String[] entry : getEntries(kind)) {
+            result.put(loadClass(entry[0]), loadClass(entry[1]));
+        }
+        return result;
+    }
+
+    private List<String[]> getEntries(String kind) {
+        return entries.getOrDefault(kind, List.of());
+    }
+
+    private Class<?> loadClass(String name) throws ClassNotFoundException {
+        return Class.forName(name, false, classLoader);
+    }
+
+    /**
+     * Writes the given sections of the type index as currently known by
+     * ReflectionHelper.
+     *
+     * @param writer the writer to write to
+     * @param sections the sections to write
+     */
+    static void write(Writer writer, Set<String> sections) {
+        PrintWriter out = new PrintWriter(writer);
+        out.println("# generated by " + TypeIndex.class.getName() + ", do not edit");
+        out.println(SECTION_DECLARATION + " " + String.join(" ", sections));
+        if (sections.contains(SECTION_MODEL)) {
+            out.println(MODEL_VERSION + " " + getModelVersion(TypeIndex.class.getClassLoader()));
+            ReflectionHelper.TYPES_WITH_MODEL_TYPE.forEach(x -> writeEntry(out, TYPE_WITH_MODEL_TYPE, x));
+            ReflectionHelper.SUBTYPES.forEach((type, subtypes) -> writeEntry(out, SUBTYPES, type, subtypes.toArray(Class[]::new)));
+            ReflectionHelper.DEFAULT_IMPLEMENTATIONS.forEach(x -> writeEntry(out, IMPLEMENTATION, x.getInterfaceType(), x.getImplementationType()));
+            ReflectionHelper.ENUMS.forEach(x -> writeEntry(out, ENUM, x));
+            ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION.forEach(x -> writeEntry(out, INTERFACE_WITHOUT_DEFAULT_IMPLEMENTATION, x));
+        }
+        if (sections.contains(SECTION_JSON_MIXINS)) {
+            ReflectionHelper.JSON_MIXINS.forEach((type, mixin) -> writeEntry(out, JSON_MIXIN, type, mixin));
+        }
+        if (sections.contains(SECTION_XML_MIXINS)) {
+            ReflectionHelper.XML_MIXINS.forEach((type, mixin) -> writeEntry(out, XML_MIXIN, type, mixin));
+        }
+        out.flush();
+    }
+
+    private static void writeEntry(PrintWriter out, String kind, Class<?> type, Class<?>... types) {
+        out.print(kind);
+        out.print(' ');
+        out.print(type.getName());
+        for (Class<?> x : types) {
+            out.print(' ');
+            out.print(x.getName());
+        }
+        out.println();
+    }
+
+    /**
+     * Generates the type index resource at build time.
+     *
+     * @param args output directory, e.g. target/classes, followed by the
+     * sections to include
+     * @throws IOException if writing the index fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("usage: TypeIndex <output directory> <section>...");
+        }
+        // make sure ReflectionHelper scans the classpath instead of reading a previously generated index
+        System.setProperty(DISABLED_PROPERTY, Boolean.TRUE.toString());
+        try {
+            Path file = Paths.get(args[0]).resolve(RESOURCE_NAME);
+            Files.createDirectories(file.getParent());
+            Set<String> sections = Arrays.stream(args).skip(1).collect(Collectors.toCollection(LinkedHashSet::new));
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                write(writer, sections);
+            }
+            logger.info("generated type index '{}' for sections {}", file, sections);
+        } finally {
+            System.clearProperty(DISABLED_PROPERTY);
+        }
+    }
+}
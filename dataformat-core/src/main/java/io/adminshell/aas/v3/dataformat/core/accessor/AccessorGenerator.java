@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.accessor;
+
+import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates and compiles a GeneratedAccessor for each default implementation
+ * of the AAS model at build time, as well as the class providing them to
+ * GeneratedAccessorModule.
+ */
+public class AccessorGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessorGenerator.class);
+    private static final String GENERATED_PACKAGE_NAME = GeneratedAccessorModule.REGISTRY_CLASS_NAME.substring(0, GeneratedAccessorModule.REGISTRY_CLASS_NAME.lastIndexOf('.'));
+    private static final String REGISTRY_SIMPLE_NAME = GeneratedAccessorModule.REGISTRY_CLASS_NAME.substring(GENERATED_PACKAGE_NAME.length() + 1);
+    private static final String ACCESSOR_SUFFIX = "Accessor";
+
+    private AccessorGenerator() {
+    }
+
+    /**
+     * Returns the getters of a class, i.e. all public methods named get... or
+     * is... without parameters, ordered by name
+     *
+     * @param type the class
+     * @return the getters of the class
+     */
+    static List<Method> getGetters(Class<?> type) {
+        return Arrays.stream(type.getMethods())
+                .filter(x -> !Modifier.isStatic(x.getModifiers()) && !x.isBridge() && x.getParameterCount() == 0)
+                .filter(x -> x.getReturnType() != void.class && x.getDeclaringClass() != Object.class)
+                .filter(x -> isPrefixed(x.getName(), "get") || isPrefixed(x.getName(), "is"))
+                .sorted(Comparator.comparing(Method::getName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the setters of a class, i.e. all public methods named set...
+     * with a single parameter, ordered by name. Overloaded setters are
+     * omitted.
+     *
+     * @param type the class
+     * @return the setters of the class
+     */
+    static List<Method> getSetters(Class<?> type) {
+        Map<String, List<Method>> setters = Arrays.stream(type.getMethods())
+                .filter(x -> !Modifier.isStatic(x.getModifiers()) && !x.isBridge() && x.getParameterCount() == 1)
+                .filter(x -> isPrefixed(x.getName(), "set"))
+                .collect(Collectors.groupingBy(Method::getName));
+        return setters.values().stream()
+                .filter(x -> x.size() == 1)
+                .map(x -> x.get(0))
+                .sorted(Comparator.comparing(Method::getName))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isPrefixed(String name, String prefix) {
+        return name.length() > prefix.length() && name.startsWith(prefix);
+    }
+
+    /**
+     * Returns the classes accessors are generated for, i.e. all public,
+     * non-abstract default implementations ordered by name
+     *
+     * @return the classes accessors are generated for
+     */
+    static List<Class<?>> getAccessedClasses() {
+        List<Class<?>> result = ReflectionHelper.DEFAULT_IMPLEMENTATIONS.stream()
+                .map(x -> (Class<?>) x.getImplementationType())
+                .filter(x -> Modifier.isPublic(x.getModifiers()) && !Modifier.isAbstract(x.getModifiers()) && x.getEnclosingClass() == null)
+                .distinct()
+                .sorted(Comparator.comparing(Class::getName))
+                .collect(Collectors.toList());
+        Map<String, Long> simpleNames = result.stream().collect(Collectors.groupingBy(Class::getSimpleName, Collectors.counting()));
+        simpleNames.forEach((name, count) -> {
+            if (count > 1) {
+                throw new IllegalStateException(String.format("multiple default implementations named '%s'", name));
+            }
+        });
+        return result;
+    }
+
+    private static String getAccessorSimpleName(Class<?> type) {
+        return type.getSimpleName() + ACCESSOR_SUFFIX;
+    }
+
+    private static String getTypeName(Class<?> type) {
+        return ClassUtils.primitiveToWrapper(type).getCanonicalName();
+    }
+
+    private static void writeHeader(PrintWriter out) {
+        out.println("// generated by " + AccessorGenerator.class.getName() + ", do not edit");
+        out.println("package " + GENERATED_PACKAGE_NAME + ";");
+        out.println();
+    }
+
+    /**
+     * Writes the source code of the accessor of a class
+     *
+     * @param writer the writer to write to
+     * @param type the class to generate the accessor for
+     */
+    static void writeAccessor(Writer writer, Class<?> type) {
+        PrintWriter out = new PrintWriter(writer);
+        String typeName = type.getCanonicalName();
+        List<Method> getters = getGetters(type);
+        List<Method> setters = getSetters(type);
+        writeHeader(out);
+        out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        out.println("public final class " + getAccessorSimpleName(type) + " implements " + GeneratedAccessor.class.getCanonicalName() + "<" + typeName + "> {");
+        out.println();
+        writeIndexMethod(out, "getterIndex", getters);
+        writeIndexMethod(out, "setterIndex", setters);
+        out.println("    @Override");
+        out.println("    public Object get(" + typeName + " bean, int index) {");
+        out.println("        switch (index) {");
+        for (int i = 0; i < getters.size(); i++) {
+            out.println("            case " + i + ":");
+            out.println("                return bean." + getters.get(i).getName() + "();");
+        }
+        writeDefault(out);
+        out.println("        }");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public void set(" + typeName + " bean, int index, Object value) {");
+        out.println("        switch (index) {");
+        for (int i = 0; i < setters.size(); i++) {
+            out.println("            case " + i + ":");
+            out.println("                bean." + setters.get(i).getName() + "((" + getTypeName(setters.get(i).getParameterTypes()[0]) + ") value);");
+            out.println("                return;");
+        }
+        writeDefault(out);
+        out.println("        }");
+        out.println("    }");
+        out.println("}");
+        out.flush();
+    }
+
+    private static void writeIndexMethod(PrintWriter out, String name, List<Method> methods) {
+        out.println("    @Override");
+        out.println("    public int " + name + "(String name) {");
+        out.println("        switch (name) {");
+        for (int i = 0; i < methods.size(); i++) {
+            out.println("            case \"" + methods.get(i).getName() + "\":");
+            out.println("                return " + i + ";");
+        }
+        out.println("            default:");
+        out.println("                return -1;");
+        out.println("        }");
+        out.println("    }");
+        out.println();
+    }
+
+    private static void writeDefault(PrintWriter out) {
+        out.println("            default:");
+        out.println("                throw new IllegalArgumentException(\"invalid index: \" + index);");
+    }
+
+    /**
+     * Writes the source code of the class providing all generated accessors to
+     * GeneratedAccessorModule
+     *
+     * @param writer the writer to write to
+     * @param types the classes accessors are generated for
+     */
+    static void writeRegistry(Writer writer, List<Class<?>> types) {
+        PrintWriter out = new PrintWriter(writer);
+        writeHeader(out);
+        out.println("public final class " + REGISTRY_SIMPLE_NAME
+                + " implements java.util.function.Supplier<java.util.Map<Class<?>, " + GeneratedAccessor.class.getCanonicalName() + "<?>>> {");
+        out.println();
+        out.println("    @Override");
+        out.println("    public java.util.Map<Class<?>, " + GeneratedAccessor.class.getCanonicalName() + "<?>> get() {");
+        out.println("        java.util.Map<Class<?>, " + GeneratedAccessor.class.getCanonicalName() + "<?>> result = new java.util.HashMap<>();");
+        for (Class<?> type : types) {
+            out.println("        result.put(" + type.getCanonicalName() + ".class, new " + getAccessorSimpleName(type) + "());");
+        }
+        out.println("        return result;");
+        out.println("    }");
+        out.println("}");
+        out.flush();
+    }
+
+    private static Path writeSource(Path sourceDirectory, String simpleName, Consumer<Writer> content) throws IOException {
+        Path file = sourceDirectory.resolve(GENERATED_PACKAGE_NAME.replace('.', File.separatorChar)).resolve(simpleName + ".java");
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            content.accept(writer);
+        }
+        return file;
+    }
+
+    private static String getClasspath(Path classDirectory, List<Class<?>> types) {
+        Set<String> result = new LinkedHashSet<>();
+        result.add(classDirectory.toString());
+        for (Class<?> type : types) {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                try {
+                    result.add(Paths.get(codeSource.getLocation().toURI()).toString());
+                } catch (URISyntaxException ex) {
+                    throw new IllegalStateException(String.format("invalid location of class '%s'", type.getName()), ex);
+                }
+            }
+        }
+        return String.join(File.pathSeparator, result);
+    }
+
+    /**
+     * Generates the accessors at build time.
+     *
+     * @param args directory to write the source code to, e.g.
+     * target/generated-sources/accessors, followed by the directory to write
+     * the compiled classes to, e.g. target/classes
+     * @throws IOException if writing the source code fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: AccessorGenerator <source directory> <class directory>");
+        }
+        Path sourceDirectory = Paths.get(args[0]);
+        Path classDirectory = Paths.get(args[1]);
+        List<Class<?>> types = getAccessedClasses();
+        List<File> sources = new ArrayList<>();
+        for (Class<?> type : types) {
+            sources.add(writeSource(sourceDirectory, getAccessorSimpleName(type), x -> writeAccessor(x, type)).toFile());
+        }
+        sources.add(writeSource(sourceDirectory, REGISTRY_SIMPLE_NAME, x -> writeRegistry(x, types)).toFile());
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("no Java compiler available, generating accessors requires a JDK");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = List.of(
+                    "-d", classDirectory.toString(),
+                    "-classpath", getClasspath(classDirectory, types),
+                    "--release", "11",
+                    "-proc:none");
+            if (!compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(sources)).call()) {
+                throw new IllegalStateException("compiling generated accessors failed");
+            }
+        }
+        logger.info("generated accessors for {} classes in '{}'", types.size(), classDirectory);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.accessor;
+
+/**
+ * Direct access to the getters and setters of a model class. Implementations
+ * are generated at build time by AccessorGenerator and call the getters and
+ * setters directly, i.e. without reflection.
+ *
+ * Methods are addressed by an index which is resolved once per method via
+ * getterIndex(...) or setterIndex(...).
+ *
+ * @param <T> the class accessed
+ */
+public interface GeneratedAccessor<T> {
+
+    /**
+     * Returns the index of a getter
+     *
+     * @param name name of the getter method
+     * @return the index of the getter or -1 if there is no such getter
+     */
+    int getterIndex(String name);
+
+    /**
+     * Returns the index of a setter. Overloaded setters are not supported.
+     *
+     * @param name name of the setter method
+     * @return the index of the setter or -1 if there is no such setter
+     */
+    int setterIndex(String name);
+
+    /**
+     * Calls a getter
+     *
+     * @param bean the object to call the getter on
+     * @param index the index of the getter
+     * @return the value returned by the getter
+     */
+    Object get(T bean, int index);
+
+    /**
+     * Calls a setter
+     *
+     * @param bean the object to call the setter on
+     * @param index the index of the setter
+     * @param value the value to pass to the setter
+     */
+    void set(T bean, int index, Object value);
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.accessor;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Jackson module that makes mappers call the getters and setters of the
+ * default implementations via the GeneratedAccessors generated at build time
+ * instead of via reflection. Which properties are bound and how is still
+ * determined by Jackson, i.e. mixins and annotation introspectors apply
+ * unchanged. Properties of other classes, e.g. custom implementations, are
+ * bound reflectively as before. If no accessors have been generated, e.g. when
+ * building with an IDE only, the module has no effect.
+ */
+public class GeneratedAccessorModule extends SimpleModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedAccessorModule.class);
+    /**
+     * Name of the class generated by AccessorGenerator that provides all
+     * generated accessors
+     */
+    static final String REGISTRY_CLASS_NAME = "io.adminshell.aas.v3.dataformat.core.accessor.generated.GeneratedAccessors";
+    private static final Map<Class<?>, GeneratedAccessor<?>> ACCESSORS = loadAccessors();
+
+    public GeneratedAccessorModule() {
+        super(GeneratedAccessorModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                GeneratedAccessor<Object> accessor = getAccessor(beanDesc.getBeanClass());
+                if (accessor == null) {
+                    return beanProperties;
+                }
+                for (int i = 0; i < beanProperties.size(); i++) {
+                    BeanPropertyWriter writer = beanProperties.get(i);
+                    // subclasses, e.g. for XML wrappers, add behaviour and are kept
+                    if (writer.getClass() == BeanPropertyWriter.class && writer.getMember() instanceof AnnotatedMethod) {
+                        int index = accessor.getterIndex(writer.getMember().getName());
+                        if (index >= 0) {
+                            beanProperties.set(i, new GeneratedPropertyWriter(writer, accessor, index));
+                        }
+                    }
+                }
+                return beanProperties;
+            }
+        });
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+                GeneratedAccessor<Object> accessor = getAccessor(beanDesc.getBeanClass());
+                if (accessor == null) {
+                    return builder;
+                }
+                List<SettableBeanProperty> properties = new ArrayList<>();
+                builder.getProperties().forEachRemaining(properties::add);
+                for (SettableBeanProperty property : properties) {
+                    if (property instanceof MethodProperty) {
+                        int index = accessor.setterIndex(property.getMember().getName());
+                        if (index >= 0) {
+                            builder.addOrReplaceProperty(new GeneratedSetterProperty(property, accessor, index), true);
+                        }
+                    }
+                }
+                return builder;
+            }
+        });
+    }
+
+    /**
+     * Returns whether accessors have been generated and are used by this
+     * module
+     *
+     * @return whether accessors are available
+     */
+    public static boolean isAvailable() {
+        return !ACCESSORS.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GeneratedAccessor<Object> getAccessor(Class<?> type) {
+        // only exact matches, subclasses may override getters and setters
+        return (GeneratedAccessor<Object>) ACCESSORS.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Class<?>, GeneratedAccessor<?>> loadAccessors() {
+        try {
+            return ((Supplier<Map<Class<?>, GeneratedAccessor<?>>>) Class.forName(REGISTRY_CLASS_NAME, true, GeneratedAccessorModule.class.getClassLoader())
+                    .getDeclaredConstructor()
+                    .newInstance())
+                    .get();
+        } catch (ClassNotFoundException ex) {
+            logger.debug("no generated accessors found, properties are accessed via reflection");
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            logger.warn("error loading generated accessors, properties are accessed via reflection", ex);
+        }
+        return Map.of();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.accessor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+/**
+ * BeanPropertyWriter reading the property value via a GeneratedAccessor
+ * instead of invoking the getter reflectively. Apart from that, properties are
+ * written exactly like by BeanPropertyWriter.
+ */
+class GeneratedPropertyWriter extends BeanPropertyWriter {
+
+    private final GeneratedAccessor<Object> accessor;
+    private final int index;
+
+    GeneratedPropertyWriter(BeanPropertyWriter base, GeneratedAccessor<Object> accessor, int index) {
+        super(base);
+        this.accessor = accessor;
+        this.index = index;
+    }
+
+    private GeneratedPropertyWriter(GeneratedPropertyWriter base, PropertyName name) {
+        super(base, name);
+        this.accessor = base.accessor;
+        this.index = base.index;
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(PropertyName newName) {
+        return new GeneratedPropertyWriter(this, newName);
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        Object value = accessor.get(bean, index);
+        if (value == null) {
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_name);
+                _nullSerializer.serialize(null, gen, prov);
+            }
+            return;
+        }
+        JsonSerializer<Object> serializer = getSerializer(value, prov);
+        if (isSuppressed(value, serializer, prov)) {
+            return;
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+            return;
+        }
+        gen.writeFieldName(_name);
+        serialize(value, serializer, gen, prov);
+    }
+
+    @Override
+    public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        Object value = accessor.get(bean, index);
+        if (value == null) {
+            if (_nullSerializer != null) {
+                _nullSerializer.serialize(null, gen, prov);
+            } else {
+                gen.writeNull();
+            }
+            return;
+        }
+        JsonSerializer<Object> serializer = getSerializer(value, prov);
+        if (isSuppressed(value, serializer, prov)) {
+            serializeAsPlaceholder(bean, gen, prov);
+            return;
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+            return;
+        }
+        serialize(value, serializer, gen, prov);
+    }
+
+    private JsonSerializer<Object> getSerializer(Object value, SerializerProvider prov) throws Exception {
+        if (_serializer != null) {
+            return _serializer;
+        }
+        PropertySerializerMap serializers = _dynamicSerializers;
+        JsonSerializer<Object> result = serializers.serializerFor(value.getClass());
+        return result != null
+                ? result
+                : _findAndAddDynamic(serializers, value.getClass(), prov);
+    }
+
+    private boolean isSuppressed(Object value, JsonSerializer<Object> serializer, SerializerProvider prov) {
+        if (_suppressableValue == null) {
+            return false;
+        }
+        return MARKER_FOR_EMPTY == _suppressableValue
+                ? serializer.isEmpty(prov, value)
+                : _suppressableValue.equals(value);
+    }
+
+    private void serialize(Object value, JsonSerializer<Object> serializer, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (_typeSerializer == null) {
+            serializer.serialize(value, gen, prov);
+        } else {
+            serializer.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.accessor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.NullValueProvider;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import java.io.IOException;
+
+/**
+ * SettableBeanProperty passing the deserialized value to the setter via a
+ * GeneratedAccessor instead of invoking the setter reflectively. Deserializing
+ * the value itself is left to the delegate.
+ */
+class GeneratedSetterProperty extends SettableBeanProperty.Delegating {
+
+    private final GeneratedAccessor<Object> accessor;
+    private final int index;
+
+    GeneratedSetterProperty(SettableBeanProperty delegate, GeneratedAccessor<Object> accessor, int index) {
+        super(delegate);
+        this.accessor = accessor;
+        this.index = index;
+    }
+
+    @Override
+    protected SettableBeanProperty withDelegate(SettableBeanProperty delegate) {
+        return new GeneratedSetterProperty(delegate, accessor, index);
+    }
+
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+        deserializeSetAndReturn(p, ctxt, instance);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+        NullValueProvider nullProvider = delegate.getNullValueProvider();
+        Object value;
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            if (NullsConstantProvider.isSkipper(nullProvider)) {
+                return instance;
+            }
+            value = nullProvider.getNullValue(ctxt);
+        } else {
+            JsonDeserializer<Object> deserializer = delegate.getValueDeserializer();
+            TypeDeserializer typeDeserializer = delegate.getValueTypeDeserializer();
+            if (typeDeserializer == null) {
+                value = deserializer.deserialize(p, ctxt);
+                if (value == null) {
+                    if (NullsConstantProvider.isSkipper(nullProvider)) {
+                        return instance;
+                    }
+                    value = nullProvider.getNullValue(ctxt);
+                }
+            } else {
+                value = deserializer.deserializeWithType(p, ctxt, typeDeserializer);
+            }
+        }
+        try {
+            accessor.set(instance, index, value);
+        } catch (RuntimeException ex) {
+            _throwAsIOE(p, ex, value);
+        }
+        return instance;
+    }
+
+    @Override
+    public void set(Object instance, Object value) throws IOException {
+        setAndReturn(instance, value);
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        try {
+            accessor.set(instance, index, value);
+        } catch (RuntimeException ex) {
+            _throwAsIOE(ex, value);
+        }
+        return instance;
+    }
+}
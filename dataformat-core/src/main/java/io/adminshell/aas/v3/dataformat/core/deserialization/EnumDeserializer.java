@@ -21,7 +21,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnumNames;
 
 /**
  * Deserializes enum values converting element names from UpperCamelCase to
@@ -32,14 +32,16 @@ import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
 public class EnumDeserializer<T extends Enum> extends JsonDeserializer<T> {
 
     protected final Class<T> type;
+    private final EnumNames names;
 
     public EnumDeserializer(Class<T> type) {
         this.type = type;
+        this.names = EnumNames.of((Class) type);
     }
 
     @Override
     public T deserialize(JsonParser parser, DeserializationContext context) throws IOException, JsonProcessingException {
-        return (T) Enum.valueOf(type, AasUtils.deserializeEnumName(parser.getText()));
+        return (T) names.valueOf(parser.getText());
     }
 
 }
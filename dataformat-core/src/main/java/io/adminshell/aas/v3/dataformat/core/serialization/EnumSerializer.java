@@ -21,7 +21,9 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
-import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnumNames;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Serializes enum values. If enum is part of the AAS Java model, the name will
@@ -31,11 +33,12 @@ import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
 public class EnumSerializer extends JsonSerializer<Enum> {
 
     protected static final char UNDERSCORE = '_';
+    private static final Set<Class<?>> AAS_ENUMS = new HashSet<>(ReflectionHelper.ENUMS);
 
     @Override
     public void serialize(Enum value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        if (ReflectionHelper.ENUMS.contains(value.getClass())) {
-            gen.writeString(AasUtils.serializeEnumName(value.name()));
+        if (AAS_ENUMS.contains(value.getClass())) {
+            gen.writeString(EnumNames.serialize(value));
         } else {
             provider.findValueSerializer(Enum.class).serialize(value, gen, provider);
         }
@@ -25,7 +25,6 @@ import io.adminshell.aas.v3.model.Key;
 import io.adminshell.aas.v3.model.KeyElements;
 import io.adminshell.aas.v3.model.KeyType;
 import io.adminshell.aas.v3.model.ModelingKind;
-import io.adminshell.aas.v3.model.Operation;
 import io.adminshell.aas.v3.model.Referable;
 import io.adminshell.aas.v3.model.Reference;
 import io.adminshell.aas.v3.model.Submodel;
@@ -38,13 +37,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -58,14 +59,35 @@ public class AasUtils {
     private static final Logger log = LoggerFactory.getLogger(AasUtils.class);
 
     private static final char UNDERSCORE = '_';
-    private static final String KEY_REGEX_GROUP_TYPE = "type";
-    private static final String KEY_REGEX_GROUP_ID_TYPE = "idtype";
-    private static final String KEY_REGEX_GROUP_VALUE = "value";
-    private static final Pattern KEY_REGEX = Pattern.compile(
-            String.format("\\((?<%s>\\w+)\\)\\[(?<%s>\\w+)\\](?<%s>.*)",
-                    KEY_REGEX_GROUP_TYPE,
-                    KEY_REGEX_GROUP_ID_TYPE,
-                    KEY_REGEX_GROUP_VALUE));
+    private static final char KEY_SEPARATOR = ',';
+    private static final Map<KeyElements, Optional<Class<?>>> KEY_TYPE_CLASSES = new ConcurrentHashMap<>();
+    private static final ClassValue<PropertyModel> PROPERTY_MODELS = new ClassValue<>() {
+        @Override
+        protected PropertyModel computeValue(Class<?> type) {
+            return new PropertyModel(findAasProperties(type));
+        }
+    };
+
+    /**
+     * Cached property information for a class implementing at least one AAS
+     * interface.
+     */
+    private static class PropertyModel {
+
+        private final List<PropertyDescriptor> descriptors;
+        private final List<PropertyAccessor> accessors;
+        private final Map<String, PropertyAccessor> accessorsByName;
+
+        private PropertyModel(List<PropertyDescriptor> descriptors) {
+            this.descriptors = Collections.unmodifiableList(descriptors);
+            this.accessors = descriptors.stream()
+                    .map(PropertyAccessor::of)
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+            Map<String, PropertyAccessor> byName = new LinkedHashMap<>();
+            accessors.forEach(x -> byName.putIfAbsent(x.getName(), x));
+            this.accessorsByName = Collections.unmodifiableMap(byName);
+        }
+    }
 
     private AasUtils() {
     }
@@ -81,12 +103,21 @@ public class AasUtils {
         if (reference == null) {
             return null;
         }
-        return reference.getKeys().stream()
-                .map(x -> String.format("(%s)[%s]%s",
-                serializeEnumName(x.getType().name()),
-                serializeEnumName(x.getIdType().name()),
-                x.getValue()))
-                .collect(Collectors.joining(","));
+        StringBuilder result = new StringBuilder();
+        boolean first = true;
+        for (Key key : reference.getKeys()) {
+            if (!first) {
+                result.append(KEY_SEPARATOR);
+            }
+            first = false;
+            result.append('(')
+                    .append(EnumNames.serialize(key.getType()))
+                    .append(")[")
+                    .append(EnumNames.serialize(key.getIdType()))
+                    .append(']')
+                    .append(key.getValue());
+        }
+        return result.toString();
     }
 
     /**
@@ -118,7 +149,7 @@ public class AasUtils {
         }
         try {
             Reference result = referenceType.getConstructor().newInstance();
-            result.setKeys(Stream.of(value.split(",")).map(x -> parseKey(x)).collect(Collectors.toList()));
+            result.setKeys(splitKeys(value).stream().map(x -> parseKey(x)).collect(Collectors.toList()));
             return result;
         } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
             throw new IllegalArgumentException("error parsing reference - could not instantiate reference type", ex);
@@ -138,10 +169,7 @@ public class AasUtils {
         if (parent == null || propertyName == null || propertyName.isBlank()) {
             return null;
         }
-        return getAasProperties(parent.getClass()).stream()
-                .filter(x -> x.getName().equals(propertyName))
-                .findAny()
-                .orElse(null);
+        return getProperty(parent.getClass(), propertyName);
     }
 
     /**
@@ -164,13 +192,26 @@ public class AasUtils {
      * defined
      */
     public static PropertyDescriptor getProperty(Class<?> type, String propertyName) {
+        PropertyAccessor result = getPropertyAccessor(type, propertyName);
+        return result != null
+                ? result.getDescriptor()
+                : null;
+    }
+
+    /**
+     * Gets accessor for the property with given name as defined in given type
+     * or null if not defined
+     *
+     * @param type type containing the property
+     * @param propertyName name of the property
+     * @return accessor for the property with given name as defined in given
+     * type or null if not defined
+     */
+    public static PropertyAccessor getPropertyAccessor(Class<?> type, String propertyName) {
         if (type == null || propertyName == null || propertyName.isBlank()) {
             return null;
         }
-        return getAasProperties(type).stream()
-                .filter(x -> x.getName().equals(propertyName))
-                .findAny()
-                .orElse(null);
+        return PROPERTY_MODELS.get(type).accessorsByName.get(propertyName);
     }
 
     /**
@@ -181,19 +222,84 @@ public class AasUtils {
      * @return parsed Key or null is given value is not a valid Key
      */
     public static Key parseKey(String value) {
-        Matcher matcher = KEY_REGEX.matcher(value);
-        if (matcher.find()) {
-            KeyElements keyElements = KeyElements.valueOf(deserializeEnumName(matcher.group(KEY_REGEX_GROUP_TYPE)));
-            KeyType keyType = KeyType.valueOf(deserializeEnumName(matcher.group(KEY_REGEX_GROUP_ID_TYPE)));
+        // finds the first occurence of (type)[idType]value where type and idType
+        // consist of word characters and value ends at the first line break
+        int length = value.length();
+        for (int start = value.indexOf('('); start >= 0; start = value.indexOf('(', start + 1)) {
+            int typeEnd = skipWordCharacters(value, start + 1);
+            if (typeEnd == start + 1
+                    || typeEnd + 1 >= length
+                    || value.charAt(typeEnd) != ')'
+                    || value.charAt(typeEnd + 1) != '[') {
+                continue;
+            }
+            int idTypeStart = typeEnd + 2;
+            int idTypeEnd = skipWordCharacters(value, idTypeStart);
+            if (idTypeEnd == idTypeStart
+                    || idTypeEnd >= length
+                    || value.charAt(idTypeEnd) != ']') {
+                continue;
+            }
+            int valueStart = idTypeEnd + 1;
+            int valueEnd = valueStart;
+            while (valueEnd < length && !isLineTerminator(value.charAt(valueEnd))) {
+                valueEnd++;
+            }
+            KeyElements keyElements = EnumNames.of(KeyElements.class).valueOf(value.substring(start + 1, typeEnd));
+            KeyType keyType = EnumNames.of(KeyType.class).valueOf(value.substring(idTypeStart, idTypeEnd));
             return new DefaultKey.Builder()
                     .type(keyElements)
                     .idType(keyType)
-                    .value(matcher.group(KEY_REGEX_GROUP_VALUE))
+                    .value(value.substring(valueStart, valueEnd))
                     .build();
         }
         return null;
     }
 
+    private static int skipWordCharacters(String value, int start) {
+        int result = start;
+        while (result < value.length() && isWordCharacter(value.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == UNDERSCORE;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n'
+                || c == '\r'
+                || c == '\u0085'
+                || c == '\u2028'
+                || c == '\u2029';
+    }
+
+    /**
+     * Splits a string representation of a reference into the string
+     * representations of its keys. Behaves like String.split(","), i.e.
+     * trailing empty strings are not included.
+     */
+    private static List<String> splitKeys(String value) {
+        List<String> result = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = value.indexOf(KEY_SEPARATOR, start)) >= 0) {
+            result.add(value.substring(start, end));
+            start = end + 1;
+        }
+        result.add(value.substring(start));
+        int size = result.size();
+        while (size > 0 && result.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return result.subList(0, size);
+    }
+
     /**
      * Checks if a reference is a local reference or not. This functionality may
      * not be 100% correct as since v3.0RC01 of the AAS specification there no
@@ -221,6 +327,14 @@ public class AasUtils {
                 .collect(Collectors.toList());
     }
 
+    public static List<Submodel> getSubmodelTemplates(AssetAdministrationShell aas, EnvironmentIndex index) {
+        return aas.getSubmodels().stream()
+                .map(ref -> resolve(ref, index, Submodel.class))
+                .filter(sm -> sm != null)
+                .filter(sm -> sm.getKind() != ModelingKind.INSTANCE)
+                .collect(Collectors.toList());
+    }
+
     public static boolean hasTemplate(AssetAdministrationShell aas, AssetAdministrationShellEnvironment environment) {
         return !getSubmodelTemplates(aas, environment).isEmpty();
     }
@@ -269,7 +383,7 @@ public class AasUtils {
     public static KeyElements referableToKeyType(Referable referable) {
         Class<?> aasInterface = ReflectionHelper.getAasInterface(referable.getClass());
         if (aasInterface != null) {
-            return KeyElements.valueOf(deserializeEnumName(aasInterface.getSimpleName()));
+            return EnumNames.of(KeyElements.class).valueOf(aasInterface.getSimpleName());
         }
         return null;
     }
@@ -281,20 +395,20 @@ public class AasUtils {
      * @return name in CamelCase
      */
     public static String serializeEnumName(String input) {
-        String result = "";
+        StringBuilder result = new StringBuilder(input.length());
         boolean capitalize = true;
         for (int i = 0; i < input.length(); i++) {
             char currentChar = input.charAt(i);
             if (UNDERSCORE == currentChar) {
                 capitalize = true;
             } else {
-                result += capitalize
+                result.append(capitalize
                         ? currentChar
-                        : Character.toLowerCase(currentChar);
+                        : Character.toLowerCase(currentChar));
                 capitalize = false;
             }
         }
-        return result;
+        return result.toString();
     }
 
     /**
@@ -304,19 +418,19 @@ public class AasUtils {
      * @return name in SCREAMING_SNAKE_CASE
      */
     public static String deserializeEnumName(String input) {
-        String result = "";
         if (input == null || input.isEmpty()) {
-            return result;
+            return "";
         }
-        result += input.charAt(0);
+        StringBuilder result = new StringBuilder(input.length() + 4);
+        result.append(input.charAt(0));
         for (int i = 1; i < input.length(); i++) {
             char currentChar = input.charAt(i);
             if (Character.isUpperCase(currentChar)) {
-                result += UNDERSCORE;
+                result.append(UNDERSCORE);
             }
-            result += Character.toUpperCase(currentChar);
+            result.append(Character.toUpperCase(currentChar));
         }
-        return result;
+        return result.toString();
     }
 
     /**
@@ -328,9 +442,10 @@ public class AasUtils {
      * abstract types like SUBMODEL_ELEMENT or DATA_ELEMENT
      */
     public static Class<?> keyTypeToClass(KeyElements key) {
-        return Stream.concat(ReflectionHelper.INTERFACES.stream(), ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION.stream())
-                .filter(x -> x.getSimpleName().equals(serializeEnumName(key.name())))
-                .findAny()
+        return KEY_TYPE_CLASSES.computeIfAbsent(key, x -> Stream.concat(ReflectionHelper.INTERFACES.stream(), ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION.stream())
+                .filter(y -> y.getSimpleName().equals(EnumNames.serialize(x)))
+                .<Class<?>>map(y -> y)
+                .findAny())
                 .orElse(null);
     }
 
@@ -494,7 +609,9 @@ public class AasUtils {
 
     /**
      * Resolves a Reference within an AssetAdministrationShellEnvironment and
-     * returns the targeted object if available, null otherwise
+     * returns the targeted object if available, null otherwise. When
+     * resolving multiple references against the same environment, use
+     * resolve(Reference, EnvironmentIndex, Class) with a shared index instead.
      *
      * @param <T> sub-type of Referable of the targeted type. If unknown use
      * Referable.class
@@ -508,101 +625,44 @@ public class AasUtils {
      * @throws IllegalArgumentException if something goes wrong while resolving
      */
     public static <T extends Referable> T resolve(Reference reference, AssetAdministrationShellEnvironment env, Class<T> type) {
-        if (reference == null || reference.getKeys() == null || reference.getKeys().isEmpty()) {
-            return null;
-        }
-        Set<Identifiable> identifiables = new IdentifiableCollector(env).collect();
-        Object current = null;
-        int i = reference.getKeys().size() - 1;
-        if (type != null) {
-            Class<?> actualType = keyTypeToClass(reference.getKeys().get(i).getType());
-            if (actualType == null) {
-                log.warn("reference {} could not be resolved as key type has no known class.",
-                        asString(reference));
-                return null;
-            }
-            if (!type.isAssignableFrom(actualType)) {
-                log.warn("reference {} could not be resolved as target type is not assignable from actual type (target: {}, actual: {})",
-                        asString(reference), type.getName(), actualType.getName());
-                return null;
-            }
-        }
-        for (; i >= 0; i--) {
-            Key key = reference.getKeys().get(i);
-            Class<?> referencedType = keyTypeToClass(key.getType());
-            if (referencedType != null) {
-                List<Identifiable> matchingIdentifiables = identifiables.stream()
-                        .filter(x -> referencedType.isAssignableFrom(x.getClass()))
-                        .filter(x -> key.getIdType().name().equals(x.getIdentification().getIdType().name()))
-                        .filter(x -> x.getIdentification().getIdentifier().equals(key.getValue()))
-                        .collect(Collectors.toList());
-                if (matchingIdentifiables.size() > 1) {
-                    throw new IllegalArgumentException("found multiple matching Identifiables for id '" + key.getValue() + "'");
-                }
-                if (matchingIdentifiables.size() == 1) {
-                    current = matchingIdentifiables.get(0);
-                    break;
-                }
-            }
-        }
-        if (current == null) {
-            return null;
-        }
-        i++;
-        if (i == reference.getKeys().size()) {
-            return (T) current;
-        }
-        // follow idShort path until target
-        for (; i < reference.getKeys().size(); i++) {
-            Key key = reference.getKeys().get(i);
-            Class<?> keyType = keyTypeToClass(key.getType());
-            if (keyType != null) {
-                Collection collection;
-                // operation needs special handling because of nested values               
-                if (Operation.class.isAssignableFrom(current.getClass())) {
-                    Operation operation = (Operation) current;
-
-                    collection = Stream.of(operation.getInputVariables().stream(),
-                            operation.getOutputVariables().stream(),
-                            operation.getInoutputVariables().stream())
-                            .flatMap(x -> x.map(y -> y.getValue()))
-                            .collect(Collectors.toSet());
-                } else {
-                    List<PropertyDescriptor> matchingProperties = getAasProperties(current.getClass()).stream()
-                            .filter(x -> Collection.class.isAssignableFrom(x.getReadMethod().getReturnType()))
-                            .filter(x -> TypeToken.of(x.getReadMethod().getGenericReturnType())
-                            .resolveType(Collection.class.getTypeParameters()[0])
-                            .isSupertypeOf(keyType))
-                            .collect(Collectors.toList());
-                    if (matchingProperties.isEmpty()) {
-                        throw new IllegalArgumentException(String.format("error resolving reference - could not find matching property for type %s in class %s",
-                                keyType.getSimpleName(),
-                                current.getClass().getSimpleName()));
-                    }
-                    if (matchingProperties.size() > 1) {
-                        throw new IllegalArgumentException(String.format("error resolving reference - found %d possible property paths for class %s (%s)",
-                                matchingProperties.size(),
-                                current.getClass().getSimpleName(),
-                                matchingProperties.stream()
-                                        .map(x -> x.getName())
-                                        .collect(Collectors.joining(", "))));
-                    }
-                    try {
-                        collection = (Collection) matchingProperties.get(0).getReadMethod().invoke(current);
-                    } catch (Exception ex) {
-                        throw new IllegalArgumentException("error resolving reference", ex);
-                    }
-                    Optional next = collection.stream()
-                            .filter(x -> ((Referable) x).getIdShort().equals(key.getValue()))
-                            .findFirst();
-                    if (next.isEmpty()) {
-                        throw new IllegalArgumentException("error resolving reference - could not find idShort " + key.getValue());
-                    }
-                    current = next.get();
-                }
-            }
-        }
-        return (T) current;
+        return EnvironmentIndex.resolveDirect(reference, env, type);
+    }
+
+    /**
+     * Resolves a Reference using an EnvironmentIndex and returns the targeted
+     * object if available, null otherwise. When resolving multiple references
+     * against the same environment, creating the index once and using this
+     * method is considerably faster than resolving against the environment
+     * directly.
+     *
+     * @param reference The reference to resolve
+     * @param index The index of the environment to resolve the reference
+     * against
+     * @return returns the referenced element if the reference could
+     * successfully be resolved, otherwise null
+     * @throws IllegalArgumentException if something goes wrong while resolving
+     */
+    public static Referable resolve(Reference reference, EnvironmentIndex index) {
+        return resolve(reference, index, Referable.class);
+    }
+
+    /**
+     * Resolves a Reference using an EnvironmentIndex and returns the targeted
+     * object if available, null otherwise
+     *
+     * @param <T> sub-type of Referable of the targeted type. If unknown use
+     * Referable.class
+     * @param reference The reference to resolve
+     * @param index The index of the environment to resolve the reference
+     * against
+     * @param type desired return type, use Referable.class is unknwon/not
+     * needed
+     * @return returns an instance of T if the reference could successfully be
+     * resolved, otherwise null
+     * @throws IllegalArgumentException if something goes wrong while resolving
+     */
+    public static <T extends Referable> T resolve(Reference reference, EnvironmentIndex index, Class<T> type) {
+        return index.resolve(reference, type);
     }
 
     /**
@@ -616,6 +676,25 @@ public class AasUtils {
      * empty list is returned.
      */
     public static List<PropertyDescriptor> getAasProperties(Class<?> type) {
+        return new ArrayList<>(PROPERTY_MODELS.get(type).descriptors);
+    }
+
+    /**
+     * Gets accessors for all properties defined for a class implementing at
+     * least one AAS interface. These should be preferred over invoking the
+     * read and write methods of the results of getAasProperties via
+     * reflection.
+     *
+     * @param type A class implementing at least one AAS interface.
+     * @return accessors for all properties defined in any of AAS interface
+     * implemented by type, sorted by name. The result is cached and therefore
+     * unmodifiable.
+     */
+    public static List<PropertyAccessor> getAasPropertyAccessors(Class<?> type) {
+        return PROPERTY_MODELS.get(type).accessors;
+    }
+
+    private static List<PropertyDescriptor> findAasProperties(Class<?> type) {
         Class<?> aasType = ReflectionHelper.getAasInterface(type);
         if (aasType == null) {
             aasType = ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION.stream()
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup tables converting enum values from and to their serialized names,
+ * i.e. from SCREAMING_SNAKE_CASE to UpperCamelCase as done by
+ * AasUtils.serializeEnumName and AasUtils.deserializeEnumName. The tables
+ * are computed once per enum type.
+ *
+ * @param <T> the enum type
+ */
+public final class EnumNames<T extends Enum<T>> {
+
+    private static final ClassValue<EnumNames<?>> TABLES = new ClassValue<>() {
+        @Override
+        protected EnumNames<?> computeValue(Class<?> type) {
+            return new EnumNames(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final String[] names;
+    private final Map<String, T> values;
+
+    private EnumNames(Class<T> type) {
+        this.type = type;
+        T[] constants = type.getEnumConstants();
+        this.names = new String[constants.length];
+        this.values = new HashMap<>();
+        for (T constant : constants) {
+            names[constant.ordinal()] = AasUtils.serializeEnumName(constant.name());
+            values.put(names[constant.ordinal()], constant);
+        }
+    }
+
+    /**
+     * Gets the lookup table for an enum type
+     *
+     * @param <T> the enum type
+     * @param type the enum type
+     * @return the lookup table for the enum type
+     */
+    public static <T extends Enum<T>> EnumNames<T> of(Class<T> type) {
+        if (type == null || !type.isEnum()) {
+            throw new IllegalArgumentException(String.format("%s is not an enum type", type));
+        }
+        return (EnumNames<T>) TABLES.get(type);
+    }
+
+    /**
+     * Gets the serialized name of an enum value
+     *
+     * @param value the enum value
+     * @return the serialized name of the enum value, null if value is null
+     */
+    public static String serialize(Enum<?> value) {
+        if (value == null) {
+            return null;
+        }
+        return ((EnumNames<?>) TABLES.get(value.getDeclaringClass())).names[value.ordinal()];
+    }
+
+    /**
+     * Gets the serialized name of an enum value
+     *
+     * @param value the enum value
+     * @return the serialized name of the enum value, null if value is null
+     */
+    public String getName(T value) {
+        return value != null
+                ? names[value.ordinal()]
+                : null;
+    }
+
+    /**
+     * Gets the enum value for a serialized name
+     *
+     * @param name the serialized name
+     * @return the enum value with the given serialized name
+     * @throws IllegalArgumentException if there is no enum value with the
+     * given name
+     */
+    public T valueOf(String name) {
+        T result = values.get(name);
+        if (result != null) {
+            return result;
+        }
+        return Enum.valueOf(type, AasUtils.deserializeEnumName(name));
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.util;
+
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.Identifiable;
+import io.adminshell.aas.v3.model.Key;
+import io.adminshell.aas.v3.model.Operation;
+import io.adminshell.aas.v3.model.OperationVariable;
+import io.adminshell.aas.v3.model.Referable;
+import io.adminshell.aas.v3.model.Reference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index over the elements of an AssetAdministrationShellEnvironment to
+ * resolve references without walking the whole environment for every
+ * reference. Identifiables are indexed by their identifier, all other
+ * referables by their idShort relative to their parent.
+ *
+ * The index does not observe the environment. When elements are added to or
+ * removed from the environment after the index has been created, the index
+ * must be updated using the add and remove methods.
+ *
+ * This class is not thread-safe.
+ */
+public class EnvironmentIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvironmentIndex.class);
+    private static final ClassValue<List<CollectionProperty>> COLLECTION_PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<CollectionProperty> computeValue(Class<?> type) {
+            return AasUtils.getAasPropertyAccessors(type).stream()
+                    .filter(x -> x.isReadable() && Collection.class.isAssignableFrom(x.getType()))
+                    .map(x -> new CollectionProperty(x, AasUtils.getCollectionContentType(x.getGenericType())))
+                    .collect(Collectors.toList());
+        }
+    };
+
+    private final Map<String, List<Identifiable>> identifiables = new HashMap<>();
+    private final Map<Referable, Map<String, List<Child>>> children = new IdentityHashMap<>();
+
+    /**
+     * Collection-valued property of an AAS type together with its content type
+     */
+    private static class CollectionProperty {
+
+        private final PropertyAccessor accessor;
+        private final Class<?> contentType;
+
+        private CollectionProperty(PropertyAccessor accessor, Class<?> contentType) {
+            this.accessor = accessor;
+            this.contentType = contentType;
+        }
+    }
+
+    /**
+     * Strategy to look up the child of a parent element matching a key
+     */
+    @FunctionalInterface
+    private interface ChildLookup {
+
+        Referable findChild(Referable parent, Key key, Class<?> keyType);
+    }
+
+    /**
+     * Child element together with the content type of the collection it is
+     * contained in
+     */
+    private static class Child {
+
+        private final Referable element;
+        private final Class<?> contentType;
+
+        private Child(Referable element, Class<?> contentType) {
+            this.element = element;
+            this.contentType = contentType;
+        }
+    }
+
+    /**
+     * Creates a new empty index
+     */
+    public EnvironmentIndex() {
+    }
+
+    /**
+     * Creates a new index containing all elements of the given environment
+     *
+     * @param env the environment to index
+     */
+    public EnvironmentIndex(AssetAdministrationShellEnvironment env) {
+        if (env != null) {
+            new IdentifiableCollector(env).collect().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds an identifiable and all its (transitive) child elements to the
+     * index
+     *
+     * @param identifiable the identifiable to add
+     */
+    public void add(Identifiable identifiable) {
+        if (identifiable == null) {
+            return;
+        }
+        if (identifiable.getIdentification() != null && identifiable.getIdentification().getIdentifier() != null) {
+            identifiables.computeIfAbsent(identifiable.getIdentification().getIdentifier(), x -> new ArrayList<>()).add(identifiable);
+        }
+        indexChildren(identifiable);
+    }
+
+    /**
+     * Removes an identifiable and all its (transitive) child elements from the
+     * index
+     *
+     * @param identifiable the identifiable to remove
+     */
+    public void remove(Identifiable identifiable) {
+        if (identifiable == null) {
+            return;
+        }
+        if (identifiable.getIdentification() != null && identifiable.getIdentification().getIdentifier() != null) {
+            String id = identifiable.getIdentification().getIdentifier();
+            List<Identifiable> matches = identifiables.get(id);
+            if (matches != null) {
+                matches.removeIf(x -> x == identifiable);
+                if (matches.isEmpty()) {
+                    identifiables.remove(id);
+                }
+            }
+        }
+        unindexChildren(identifiable);
+    }
+
+    /**
+     * Adds an element that has been added to a parent already contained in
+     * the index. The element must already be contained in one of the
+     * collections of the parent.
+     *
+     * @param parent the parent of the element
+     * @param element the element to add
+     * @throws IllegalArgumentException if the element is not contained in
+     * parent
+     */
+    public void add(Referable parent, Referable element) {
+        if (parent == null || element == null) {
+            return;
+        }
+        for (CollectionProperty property : getCollectionProperties(parent)) {
+            if (getElements(parent, property).anyMatch(x -> x == element)) {
+                addChild(parent, element, property.contentType);
+                indexChildren(element);
+                return;
+            }
+        }
+        throw new IllegalArgumentException(String.format("element '%s' is not contained in parent '%s'",
+                element.getIdShort(),
+                parent.getIdShort()));
+    }
+
+    /**
+     * Removes an element and all its (transitive) child elements from the
+     * index
+     *
+     * @param parent the parent of the element
+     * @param element the element to remove
+     */
+    public void remove(Referable parent, Referable element) {
+        if (parent == null || element == null) {
+            return;
+        }
+        Map<String, List<Child>> siblings = children.get(parent);
+        if (siblings != null && element.getIdShort() != null) {
+            List<Child> matches = siblings.get(element.getIdShort());
+            if (matches != null) {
+                matches.removeIf(x -> x.element == element);
+                if (matches.isEmpty()) {
+                    siblings.remove(element.getIdShort());
+                }
+            }
+        }
+        unindexChildren(element);
+    }
+
+    /**
+     * Gets all indexed identifiables with the given identifier
+     *
+     * @param id the identifier
+     * @return all indexed identifiables with the given identifier, an empty
+     * list if there are none
+     */
+    public List<Identifiable> getIdentifiables(String id) {
+        return identifiables.getOrDefault(id, List.of());
+    }
+
+    /**
+     * Resolves a reference against the indexed elements
+     *
+     * @param reference the reference to resolve
+     * @return the referenced element or null if it could not be resolved
+     * @throws IllegalArgumentException if something goes wrong while resolving
+     */
+    public Referable resolve(Reference reference) {
+        return resolve(reference, Referable.class);
+    }
+
+    /**
+     * Resolves a reference against the indexed elements. See
+     * AasUtils.resolve(Reference, AssetAdministrationShellEnvironment, Class)
+     * for details.
+     *
+     * @param <T> type of the referenced element
+     * @param reference the reference to resolve
+     * @param type desired return type, use Referable.class is unknwon/not
+     * needed
+     * @return the referenced element if it could be resolved and is of the
+     * desired type, otherwise null
+     * @throws IllegalArgumentException if something goes wrong while
+     * resolving, e.g. if multiple elements on the path match the same key
+     */
+    public <T extends Referable> T resolve(Reference reference, Class<T> type) {
+        return resolve(reference, type, this::getIdentifiables, this::findChild);
+    }
+
+    /**
+     * Resolves a reference directly against an environment without creating
+     * an index. Only the identifiables of the environment and the elements
+     * along the path of the reference are visited, which is cheaper than
+     * creating an index when resolving a single reference.
+     *
+     * @param <T> type of the referenced element
+     * @param reference the reference to resolve
+     * @param env the environment to resolve the reference against
+     * @param type desired return type, use Referable.class is unknwon/not
+     * needed
+     * @return the referenced element if it could be resolved and is of the
+     * desired type, otherwise null
+     * @throws IllegalArgumentException if something goes wrong while resolving
+     */
+    static <T extends Referable> T resolveDirect(Reference reference, AssetAdministrationShellEnvironment env, Class<T> type) {
+        if (reference == null || reference.getKeys() == null || reference.getKeys().isEmpty() || env == null) {
+            return null;
+        }
+        Set<Identifiable> identifiables = new IdentifiableCollector(env).collect();
+        return resolve(reference, type,
+                id -> identifiables.stream()
+                        .filter(x -> x.getIdentification() != null && id.equals(x.getIdentification().getIdentifier()))
+                        .collect(Collectors.toList()),
+                EnvironmentIndex::findChildDirect);
+    }
+
+    private static <T extends Referable> T resolve(Reference reference, Class<T> type, Function<String, List<Identifiable>> identifiableLookup, ChildLookup childLookup) {
+        if (reference == null || reference.getKeys() == null || reference.getKeys().isEmpty()) {
+            return null;
+        }
+        List<Key> keys = reference.getKeys();
+        int i = keys.size() - 1;
+        if (type != null) {
+            Class<?> actualType = AasUtils.keyTypeToClass(keys.get(i).getType());
+            if (actualType == null) {
+                log.warn("reference {} could not be resolved as key type has no known class.",
+                        AasUtils.asString(reference));
+                return null;
+            }
+            if (!type.isAssignableFrom(actualType)) {
+                log.warn("reference {} could not be resolved as target type is not assignable from actual type (target: {}, actual: {})",
+                        AasUtils.asString(reference), type.getName(), actualType.getName());
+                return null;
+            }
+        }
+        Referable current = null;
+        for (; i >= 0; i--) {
+            current = findIdentifiable(keys.get(i), identifiableLookup);
+            if (current != null) {
+                break;
+            }
+        }
+        if (current == null) {
+            return null;
+        }
+        // follow idShort path until target
+        for (i++; i < keys.size(); i++) {
+            Key key = keys.get(i);
+            Class<?> keyType = AasUtils.keyTypeToClass(key.getType());
+            if (keyType != null) {
+                current = childLookup.findChild(current, key, keyType);
+            }
+        }
+        return (T) current;
+    }
+
+    private static Identifiable findIdentifiable(Key key, Function<String, List<Identifiable>> identifiableLookup) {
+        Class<?> referencedType = AasUtils.keyTypeToClass(key.getType());
+        if (referencedType == null || key.getValue() == null) {
+            return null;
+        }
+        List<Identifiable> matchingIdentifiables = identifiableLookup.apply(key.getValue()).stream()
+                .filter(x -> referencedType.isAssignableFrom(x.getClass()))
+                .filter(x -> key.getIdType().name().equals(x.getIdentification().getIdType().name()))
+                .collect(Collectors.toList());
+        if (matchingIdentifiables.size() > 1) {
+            throw new IllegalArgumentException("found multiple matching Identifiables for id '" + key.getValue() + "'");
+        }
+        return matchingIdentifiables.isEmpty()
+                ? null
+                : matchingIdentifiables.get(0);
+    }
+
+    private Referable findChild(Referable parent, Key key, Class<?> keyType) {
+        List<Child> candidates = children.getOrDefault(parent, Map.of()).getOrDefault(key.getValue(), List.of());
+        return findUniqueChild(parent, key, keyType, candidates.stream());
+    }
+
+    private static Referable findChildDirect(Referable parent, Key key, Class<?> keyType) {
+        Stream<Child> candidates = parent instanceof Operation
+                ? getOperationVariableValues((Operation) parent).map(x -> new Child(x, Object.class))
+                : getCollectionProperties(parent).stream()
+                        .flatMap(x -> getElements(parent, x).map(y -> new Child(y, x.contentType)));
+        return findUniqueChild(parent, key, keyType,
+                candidates.filter(x -> x.element.getIdShort() != null && x.element.getIdShort().equals(key.getValue())));
+    }
+
+    private static Referable findUniqueChild(Referable parent, Key key, Class<?> keyType, Stream<Child> candidates) {
+        List<Referable> matches = candidates
+                .filter(x -> x.contentType.isAssignableFrom(keyType))
+                .map(x -> x.element)
+                .limit(2)
+                .collect(Collectors.toList());
+        if (matches.isEmpty()) {
+            throw new IllegalArgumentException("error resolving reference - could not find idShort " + key.getValue());
+        }
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException(String.format("error resolving reference - found multiple elements with idShort %s in %s",
+                    key.getValue(),
+                    parent.getIdShort()));
+        }
+        return matches.get(0);
+    }
+
+    private void indexChildren(Referable parent) {
+        if (parent instanceof Operation) {
+            // operation needs special handling because of nested values
+            getOperationVariableValues((Operation) parent)
+                    .forEach(x -> {
+                        addChild(parent, x, Object.class);
+                        indexChildren(x);
+                    });
+            return;
+        }
+        for (CollectionProperty property : getCollectionProperties(parent)) {
+            getElements(parent, property).forEach(x -> {
+                addChild(parent, x, property.contentType);
+                indexChildren(x);
+            });
+        }
+    }
+
+    private void unindexChildren(Referable parent) {
+        Map<String, List<Child>> removed = children.remove(parent);
+        if (removed != null) {
+            removed.values().forEach(x -> x.forEach(y -> unindexChildren(y.element)));
+        }
+    }
+
+    private void addChild(Referable parent, Referable element, Class<?> contentType) {
+        if (element.getIdShort() == null) {
+            return;
+        }
+        children.computeIfAbsent(parent, x -> new HashMap<>())
+                .computeIfAbsent(element.getIdShort(), x -> new ArrayList<>())
+                .add(new Child(element, contentType));
+    }
+
+    private static List<CollectionProperty> getCollectionProperties(Referable parent) {
+        return parent instanceof Operation
+                ? List.of()
+                : COLLECTION_PROPERTIES.get(parent.getClass());
+    }
+
+    private static Stream<Referable> getElements(Referable parent, CollectionProperty property) {
+        Collection<?> collection;
+        try {
+            collection = (Collection<?>) property.accessor.get(parent);
+        } catch (InvocationTargetException ex) {
+            throw new IllegalArgumentException(String.format("error reading property %s", property.accessor.getName()), ex);
+        }
+        if (collection == null) {
+            return Stream.empty();
+        }
+        return collection.stream()
+                .filter(Referable.class::isInstance)
+                .map(Referable.class::cast);
+    }
+
+    private static Stream<Referable> getOperationVariableValues(Operation operation) {
+        return Stream.of(operation.getInputVariables(), operation.getOutputVariables(), operation.getInoutputVariables())
+                .filter(x -> x != null)
+                .flatMap(Collection::stream)
+                .map(OperationVariable::getValue)
+                .filter(x -> x != null)
+                .map(Referable.class::cast);
+    }
+}
@@ -15,19 +15,22 @@
  */
 package io.adminshell.aas.v3.dataformat.core.util;
 
-import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementWalkerVisitor;
+import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementTraverser;
+import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementVisitor;
 import io.adminshell.aas.v3.model.Asset;
 import io.adminshell.aas.v3.model.AssetAdministrationShell;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.ConceptDescription;
 import io.adminshell.aas.v3.model.Identifiable;
 import io.adminshell.aas.v3.model.Submodel;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
 /**
  * Collects all Identifiable elements within an
- * AssetAdministrationShellEnvironment
+ * AssetAdministrationShellEnvironment. Elements are compared by identity as
+ * hashing them would require hashing their whole content.
  */
 public class IdentifiableCollector {
 
@@ -39,36 +42,37 @@ public class IdentifiableCollector {
 
     public Set<Identifiable> collect() {
         Visitor visitor = new Visitor();
-        visitor.visit(env);
+        visitor.traverser.traverse(env);
         return visitor.identifiables;
     }
 
-    private class Visitor implements AssetAdministrationShellElementWalkerVisitor {
+    private class Visitor implements AssetAdministrationShellElementVisitor {
 
-        Set<Identifiable> identifiables = new HashSet<>();
+        final AssetAdministrationShellElementTraverser traverser = new AssetAdministrationShellElementTraverser(this);
+        Set<Identifiable> identifiables = Collections.newSetFromMap(new IdentityHashMap<>());
 
         @Override
         public void visit(AssetAdministrationShell value) {
             identifiables.add(value);
-            AssetAdministrationShellElementWalkerVisitor.super.visit(value);
         }
 
         @Override
         public void visit(Asset value) {
             identifiables.add(value);
-            AssetAdministrationShellElementWalkerVisitor.super.visit(value);
         }
 
         @Override
         public void visit(Submodel value) {
             identifiables.add(value);
-            AssetAdministrationShellElementWalkerVisitor.super.visit(value);
+            // submodels do not contain any identifiables
+            traverser.skipChildren();
         }
 
         @Override
         public void visit(ConceptDescription value) {
             identifiables.add(value);
-            AssetAdministrationShellElementWalkerVisitor.super.visit(value);
+            // concept descriptions do not contain any identifiables
+            traverser.skipChildren();
         }
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.util;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fast access to a bean property. Getter and setter are resolved once and
+ * invoked via functions generated by LambdaMetafactory instead of reflection.
+ * If the declaring class is not visible to this class' class loader, plain
+ * MethodHandles are used instead.
+ *
+ * Instances are cached per declaring class, use PropertyAccessor.of(...) or
+ * AasUtils.getAasPropertyAccessors(...) to obtain one.
+ */
+public class PropertyAccessor {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyAccessor.class);
+    private static final ClassValue<Map<String, PropertyAccessor>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final PropertyDescriptor descriptor;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    private PropertyAccessor(PropertyDescriptor descriptor) {
+        this.descriptor = descriptor;
+        this.getter = descriptor.getReadMethod() != null
+                ? createGetter(descriptor.getReadMethod())
+                : null;
+        this.setter = descriptor.getWriteMethod() != null
+                ? createSetter(descriptor.getWriteMethod())
+                : null;
+    }
+
+    /**
+     * Returns the (cached) accessor for a given property
+     *
+     * @param descriptor the property
+     * @return the accessor for the property
+     */
+    public static PropertyAccessor of(PropertyDescriptor descriptor) {
+        Method method = descriptor.getReadMethod() != null
+                ? descriptor.getReadMethod()
+                : descriptor.getWriteMethod();
+        if (method == null) {
+            return new PropertyAccessor(descriptor);
+        }
+        PropertyAccessor result = CACHE.get(method.getDeclaringClass()).computeIfAbsent(descriptor.getName(), x -> new PropertyAccessor(descriptor));
+        return Objects.equals(result.descriptor.getReadMethod(), descriptor.getReadMethod())
+                && Objects.equals(result.descriptor.getWriteMethod(), descriptor.getWriteMethod())
+                        ? result
+                        : new PropertyAccessor(descriptor);
+    }
+
+    public PropertyDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    public String getName() {
+        return descriptor.getName();
+    }
+
+    /**
+     * Returns the raw type of the property as defined by the getter
+     *
+     * @return the raw type of the property
+     */
+    public Class<?> getType() {
+        return descriptor.getReadMethod().getReturnType();
+    }
+
+    /**
+     * Returns the generic type of the property as defined by the getter
+     *
+     * @return the generic type of the property
+     */
+    public Type getGenericType() {
+        return descriptor.getReadMethod().getGenericReturnType();
+    }
+
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Reads the value of the property from a given object
+     *
+     * @param bean the object to read the property value from
+     * @return the property value
+     * @throws InvocationTargetException if the getter throws an exception
+     * @throws IllegalArgumentException if bean is not an instance of the class
+     * declaring the property
+     */
+    public Object get(Object bean) throws InvocationTargetException {
+        if (getter == null) {
+            throw new UnsupportedOperationException(String.format("property %s is not readable", getName()));
+        }
+        checkInstance(bean, descriptor.getReadMethod());
+        try {
+            return getter.apply(bean);
+        } catch (RuntimeException | Error ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Sets the value of the property on a given object
+     *
+     * @param bean the object to set the property value on
+     * @param value the value to set
+     * @throws InvocationTargetException if the setter throws an exception
+     * @throws IllegalArgumentException if bean is not an instance of the class
+     * declaring the property or value is not assignable to the property
+     */
+    public void set(Object bean, Object value) throws InvocationTargetException {
+        if (setter == null) {
+            throw new UnsupportedOperationException(String.format("property %s is not writable", getName()));
+        }
+        checkInstance(bean, descriptor.getWriteMethod());
+        Class<?> parameterType = MethodType.methodType(descriptor.getWriteMethod().getParameterTypes()[0]).wrap().returnType();
+        if (value != null ? !parameterType.isInstance(value) : descriptor.getWriteMethod().getParameterTypes()[0].isPrimitive()) {
+            throw new IllegalArgumentException(String.format("value of type %s can not be assigned to property %s",
+                    value == null ? null : value.getClass().getName(),
+                    getName()));
+        }
+        try {
+            setter.accept(bean, value);
+        } catch (RuntimeException | Error ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    private static void checkInstance(Object bean, Method method) {
+        if (!method.getDeclaringClass().isInstance(bean)) {
+            throw new IllegalArgumentException(String.format("object is not an instance of declaring class %s",
+                    method.getDeclaringClass().getName()));
+        }
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessor.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalArgumentException(String.format("method %s is not accessible", method), ex);
+        }
+    }
+
+    private static Function<Object, Object> createGetter(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (isVisible(method.getDeclaringClass())) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(),
+                        "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap());
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable ex) {
+                log.debug("could not generate getter for {}, falling back to method handle", method, ex);
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return generic.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> createSetter(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (isVisible(method.getDeclaringClass()) && isVisible(MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType())) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(),
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable ex) {
+                log.debug("could not generate setter for {}, falling back to method handle", method, ex);
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                generic.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.util;
+
+import io.adminshell.aas.v3.model.Key;
+import io.adminshell.aas.v3.model.KeyType;
+import io.adminshell.aas.v3.model.Reference;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable key wrapping a Reference so that it can be used in hash-based
+ * collections. Equality follows AasUtils.sameAs(Reference, Reference) and the
+ * hash code is derived from the last key only, i.e. two keys are equal
+ * exactly if their references are the same as defined by AasUtils.sameAs.
+ *
+ * The relevant information of the reference is copied when the key is
+ * created, later modifications of the reference are not reflected.
+ *
+ * As AasUtils.sameAs considers key types compatible when one is a sub-type of
+ * the other and compares only as many keys as the shorter reference has,
+ * equality is not strictly transitive. When references which are only equal
+ * by these relaxations are mixed in a collection, any of them may match.
+ */
+public final class ReferenceKey {
+
+    private final Reference reference;
+    // keys are stored in reverse order, i.e. starting with the last key, up
+    // to and including the first key with a global idType
+    private final Class<?>[] types;
+    private final KeyType[] idTypes;
+    private final String[] values;
+    private final int hash;
+
+    private ReferenceKey(Reference reference) {
+        this.reference = reference;
+        List<Key> keys = reference == null || reference.getKeys() == null
+                ? List.of()
+                : reference.getKeys();
+        int length = 0;
+        while (length < keys.size()) {
+            length++;
+            if (isGlobal(keys.get(keys.size() - length).getIdType())) {
+                break;
+            }
+        }
+        types = new Class<?>[length];
+        idTypes = new KeyType[length];
+        values = new String[length];
+        for (int i = 0; i < length; i++) {
+            Key key = keys.get(keys.size() - (i + 1));
+            types[i] = AasUtils.keyTypeToClass(key.getType());
+            idTypes[i] = key.getIdType();
+            values[i] = key.getValue();
+        }
+        hash = length == 0
+                ? 0
+                : Objects.hash(idTypes[0], values[0]);
+    }
+
+    /**
+     * Creates a new key for a reference
+     *
+     * @param reference the reference, may be null which is equal to an empty
+     * reference
+     * @return a new key for the reference
+     */
+    public static ReferenceKey of(Reference reference) {
+        return new ReferenceKey(reference);
+    }
+
+    /**
+     * Gets the reference this key has been created for
+     *
+     * @return the reference this key has been created for
+     */
+    public Reference getReference() {
+        return reference;
+    }
+
+    private static boolean isGlobal(KeyType idType) {
+        return idType == KeyType.IRI
+                || idType == KeyType.IRDI
+                || idType == KeyType.CUSTOM;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ReferenceKey other = (ReferenceKey) obj;
+        if (hash != other.hash) {
+            return false;
+        }
+        if (values.length == 0 || other.values.length == 0) {
+            return values.length == other.values.length;
+        }
+        int length = Math.min(values.length, other.values.length);
+        for (int i = 0; i < length; i++) {
+            if (types[i] != other.types[i]) {
+                if (types[i] == null
+                        || other.types[i] == null
+                        || !(types[i].isAssignableFrom(other.types[i]) || other.types[i].isAssignableFrom(types[i]))) {
+                    return false;
+                }
+            }
+            if (idTypes[i] != other.idTypes[i] || !Objects.equals(values[i], other.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return AasUtils.asString(reference);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.util;
+
+import io.adminshell.aas.v3.model.Reference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map using References as keys where keys are compared using
+ * AasUtils.sameAs(Reference, Reference) instead of Reference.equals(Object).
+ * Lookups take constant time as keys are hashed using ReferenceKey. Iteration
+ * order is insertion order. When a reference is put that is the same as an
+ * already contained one, the value is replaced but the originally added
+ * reference is kept as key.
+ *
+ * Keys must not be modified while contained in the map.
+ *
+ * @param <V> the type of the values
+ */
+public class ReferenceMap<V> extends AbstractMap<Reference, V> {
+
+    private final Map<ReferenceKey, SimpleEntry<Reference, V>> entries = new LinkedHashMap<>();
+
+    /**
+     * Creates a new empty map
+     */
+    public ReferenceMap() {
+    }
+
+    /**
+     * Creates a new map containing all mappings of the given map
+     *
+     * @param map the map whose mappings are to be placed in this map
+     */
+    public ReferenceMap(Map<? extends Reference, ? extends V> map) {
+        putAll(map);
+    }
+
+    @Override
+    public V put(Reference key, V value) {
+        SimpleEntry<Reference, V> entry = entries.get(ReferenceKey.of(key));
+        if (entry != null) {
+            return entry.setValue(value);
+        }
+        entries.put(ReferenceKey.of(key), new SimpleEntry<>(key, value));
+        return null;
+    }
+
+    @Override
+    public V get(Object key) {
+        Entry<Reference, V> entry = getEntry(key);
+        return entry != null
+                ? entry.getValue()
+                : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getEntry(key) != null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key != null && !(key instanceof Reference)) {
+            return null;
+        }
+        Entry<Reference, V> entry = entries.remove(ReferenceKey.of((Reference) key));
+        return entry != null
+                ? entry.getValue()
+                : null;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public Set<Entry<Reference, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Reference, V>> iterator() {
+                Iterator<SimpleEntry<Reference, V>> iterator = entries.values().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Reference, V> next() {
+                        return iterator.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+
+            @Override
+            public void clear() {
+                entries.clear();
+            }
+        };
+    }
+
+    private Entry<Reference, V> getEntry(Object key) {
+        if (key != null && !(key instanceof Reference)) {
+            return null;
+        }
+        return entries.get(ReferenceKey.of((Reference) key));
+    }
+}
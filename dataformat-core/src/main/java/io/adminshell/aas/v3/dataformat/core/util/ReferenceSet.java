@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.util;
+
+import io.adminshell.aas.v3.model.Reference;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Set of References where elements are compared using
+ * AasUtils.sameAs(Reference, Reference) instead of Reference.equals(Object).
+ * Lookups take constant time as elements are hashed using ReferenceKey.
+ * Iteration order is insertion order.
+ *
+ * Elements must not be modified while contained in the set.
+ */
+public class ReferenceSet extends AbstractSet<Reference> {
+
+    private final Map<ReferenceKey, Reference> elements = new LinkedHashMap<>();
+
+    /**
+     * Creates a new empty set
+     */
+    public ReferenceSet() {
+    }
+
+    /**
+     * Creates a new set containing all given references
+     *
+     * @param references the references to add
+     */
+    public ReferenceSet(Collection<? extends Reference> references) {
+        addAll(references);
+    }
+
+    @Override
+    public boolean add(Reference reference) {
+        ReferenceKey key = ReferenceKey.of(reference);
+        if (elements.containsKey(key)) {
+            return false;
+        }
+        elements.put(key, reference);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object obj) {
+        if (obj != null && !(obj instanceof Reference)) {
+            return false;
+        }
+        return elements.containsKey(ReferenceKey.of((Reference) obj));
+    }
+
+    @Override
+    public boolean remove(Object obj) {
+        if (obj != null && !(obj instanceof Reference)) {
+            return false;
+        }
+        return elements.remove(ReferenceKey.of((Reference) obj)) != null;
+    }
+
+    @Override
+    public Iterator<Reference> iterator() {
+        return elements.values().iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.visitor;
+
+import io.adminshell.aas.v3.model.AccessControl;
+import io.adminshell.aas.v3.model.AccessControlPolicyPoints;
+import io.adminshell.aas.v3.model.AccessPermissionRule;
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.AssetInformation;
+import io.adminshell.aas.v3.model.BasicEvent;
+import io.adminshell.aas.v3.model.Blob;
+import io.adminshell.aas.v3.model.BlobCertificate;
+import io.adminshell.aas.v3.model.Certificate;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.DataElement;
+import io.adminshell.aas.v3.model.Entity;
+import io.adminshell.aas.v3.model.File;
+import io.adminshell.aas.v3.model.IdentifierKeyValuePair;
+import io.adminshell.aas.v3.model.Key;
+import io.adminshell.aas.v3.model.LangString;
+import io.adminshell.aas.v3.model.MultiLanguageProperty;
+import io.adminshell.aas.v3.model.ObjectAttributes;
+import io.adminshell.aas.v3.model.Operation;
+import io.adminshell.aas.v3.model.OperationVariable;
+import io.adminshell.aas.v3.model.Permission;
+import io.adminshell.aas.v3.model.PermissionsPerObject;
+import io.adminshell.aas.v3.model.PolicyAdministrationPoint;
+import io.adminshell.aas.v3.model.PolicyDecisionPoint;
+import io.adminshell.aas.v3.model.PolicyEnforcementPoints;
+import io.adminshell.aas.v3.model.PolicyInformationPoints;
+import io.adminshell.aas.v3.model.Property;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.ReferenceElement;
+import io.adminshell.aas.v3.model.RelationshipElement;
+import io.adminshell.aas.v3.model.Security;
+import io.adminshell.aas.v3.model.SubjectAttributes;
+import io.adminshell.aas.v3.model.Submodel;
+import io.adminshell.aas.v3.model.SubmodelElement;
+import io.adminshell.aas.v3.model.SubmodelElementCollection;
+import io.adminshell.aas.v3.model.View;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Non-recursive alternative to AssetAdministrationShellElementWalkerVisitor.
+ * The traverser visits the same elements as the walker visitor but keeps the
+ * elements still to visit on an explicit stack, so arbitrarily deep nesting
+ * of elements does not exhaust the call stack. Unlike the walker visitor,
+ * absent (null) elements are skipped instead of being passed to the visitor.
+ *
+ * Elements are visited in pre-order, i.e. an element is passed to the
+ * visitor before its children. From within the visitor, the traversal can be
+ * controlled by calling skipChildren() to not descend into the children of
+ * the current element, or terminate() to end the traversal. The visitor
+ * passed must therefore not walk the elements itself, i.e. it must not be an
+ * AssetAdministrationShellElementWalkerVisitor.
+ *
+ * Instances are not thread-safe and not reentrant.
+ */
+public class AssetAdministrationShellElementTraverser {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private final AssetAdministrationShellElementVisitor visitor;
+    private Object[] nodes = new Object[INITIAL_CAPACITY];
+    private Class<?>[] types = new Class<?>[INITIAL_CAPACITY];
+    private int size;
+    private boolean traversing;
+    private boolean skipChildren;
+    private boolean terminated;
+
+    /**
+     * Creates a new traverser passing all visited elements to the given
+     * visitor
+     *
+     * @param visitor the visitor to pass elements to
+     * @throws IllegalArgumentException if visitor is null or an
+     * AssetAdministrationShellElementWalkerVisitor
+     */
+    public AssetAdministrationShellElementTraverser(AssetAdministrationShellElementVisitor visitor) {
+        if (visitor == null) {
+            throw new IllegalArgumentException("visitor must be non-null");
+        }
+        if (visitor instanceof AssetAdministrationShellElementWalkerVisitor) {
+            throw new IllegalArgumentException("visitor must not be an AssetAdministrationShellElementWalkerVisitor");
+        }
+        this.visitor = visitor;
+    }
+
+    /**
+     * Skips the children of the element currently visited. Only has an effect
+     * when called from within the visitor.
+     */
+    public void skipChildren() {
+        skipChildren = true;
+    }
+
+    /**
+     * Terminates the traversal after the element currently visited. Only has
+     * an effect when called from within the visitor.
+     */
+    public void terminate() {
+        terminated = true;
+    }
+
+    /**
+     * Traverses an environment
+     *
+     * @param environment the environment to traverse
+     * @return true if all elements have been visited, false if the traversal
+     * has been terminated
+     */
+    public boolean traverse(AssetAdministrationShellEnvironment environment) {
+        return traverse(environment, AssetAdministrationShellEnvironment.class);
+    }
+
+    /**
+     * Traverses an asset administration shell
+     *
+     * @param shell the asset administration shell to traverse
+     * @return true if all elements have been visited, false if the traversal
+     * has been terminated
+     */
+    public boolean traverse(AssetAdministrationShell shell) {
+        return traverse(shell, AssetAdministrationShell.class);
+    }
+
+    /**
+     * Traverses a submodel
+     *
+     * @param submodel the submodel to traverse
+     * @return true if all elements have been visited, false if the traversal
+     * has been terminated
+     */
+    public boolean traverse(Submodel submodel) {
+        return traverse(submodel, Submodel.class);
+    }
+
+    /**
+     * Traverses a concept description
+     *
+     * @param conceptDescription the concept description to traverse
+     * @return true if all elements have been visited, false if the traversal
+     * has been terminated
+     */
+    public boolean traverse(ConceptDescription conceptDescription) {
+        return traverse(conceptDescription, ConceptDescription.class);
+    }
+
+    /**
+     * Traverses a submodel element
+     *
+     * @param submodelElement the submodel element to traverse
+     * @return true if all elements have been visited, false if the traversal
+     * has been terminated
+     */
+    public boolean traverse(SubmodelElement submodelElement) {
+        return traverse(submodelElement, SubmodelElement.class);
+    }
+
+    private boolean traverse(Object root, Class<?> type) {
+        if (traversing) {
+            throw new IllegalStateException("traversal already in progress");
+        }
+        traversing = true;
+        terminated = false;
+        try {
+            push(root, type);
+            while (size > 0 && !terminated) {
+                size--;
+                Object node = nodes[size];
+                Class<?> nodeType = types[size];
+                nodes[size] = null;
+                types[size] = null;
+                skipChildren = false;
+                visit(node, nodeType);
+                if (!terminated && !skipChildren) {
+                    int start = size;
+                    pushChildren(node, nodeType);
+                    // children have been pushed in order but must be popped in order
+                    reverse(start, size);
+                }
+            }
+            return !terminated;
+        } finally {
+            Arrays.fill(nodes, 0, size, null);
+            Arrays.fill(types, 0, size, null);
+            size = 0;
+            traversing = false;
+        }
+    }
+
+    private void push(Object node, Class<?> type) {
+        if (node == null || type == null) {
+            return;
+        }
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+        }
+        nodes[size] = node;
+        types[size] = type;
+        size++;
+    }
+
+    private void pushAll(Collection<?> elements, Class<?> type) {
+        if (elements == null) {
+            return;
+        }
+        for (Object element : elements) {
+            push(element, type);
+        }
+    }
+
+    private void pushResolved(Object node) {
+        push(node, resolveType(node));
+    }
+
+    private void pushAllResolved(Collection<?> elements) {
+        if (elements == null) {
+            return;
+        }
+        for (Object element : elements) {
+            pushResolved(element);
+        }
+    }
+
+    private static Class<?> resolveType(Object node) {
+        if (node instanceof Reference) {
+            return Reference.class;
+        } else if (node instanceof Submodel) {
+            return Submodel.class;
+        } else if (node instanceof SubmodelElement) {
+            return SubmodelElement.class;
+        }
+        return null;
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object node = nodes[i];
+            nodes[i] = nodes[j];
+            nodes[j] = node;
+            Class<?> type = types[i];
+            types[i] = types[j];
+            types[j] = type;
+        }
+    }
+
+    private void visit(Object node, Class<?> type) {
+        if (type == AssetAdministrationShellEnvironment.class) {
+            visitor.visit((AssetAdministrationShellEnvironment) node);
+        } else if (type == AssetAdministrationShell.class) {
+            visitor.visit((AssetAdministrationShell) node);
+        } else if (type == ConceptDescription.class) {
+            visitor.visit((ConceptDescription) node);
+        } else if (type == Submodel.class) {
+            visitor.visit((Submodel) node);
+        } else if (type == SubmodelElement.class) {
+            visitor.visit((SubmodelElement) node);
+        } else if (type == DataElement.class) {
+            visitor.visit((DataElement) node);
+        } else if (type == Reference.class) {
+            visitor.visit((Reference) node);
+        } else if (type == Key.class) {
+            visitor.visit((Key) node);
+        } else if (type == LangString.class) {
+            visitor.visit((LangString) node);
+        } else if (type == IdentifierKeyValuePair.class) {
+            visitor.visit((IdentifierKeyValuePair) node);
+        } else if (type == AssetInformation.class) {
+            visitor.visit((AssetInformation) node);
+        } else if (type == File.class) {
+            visitor.visit((File) node);
+        } else if (type == Blob.class) {
+            visitor.visit((Blob) node);
+        } else if (type == View.class) {
+            visitor.visit((View) node);
+        } else if (type == Security.class) {
+            visitor.visit((Security) node);
+        } else if (type == Certificate.class) {
+            visitor.visit((Certificate) node);
+        } else if (type == AccessControlPolicyPoints.class) {
+            visitor.visit((AccessControlPolicyPoints) node);
+        } else if (type == PolicyAdministrationPoint.class) {
+            visitor.visit((PolicyAdministrationPoint) node);
+        } else if (type == PolicyDecisionPoint.class) {
+            visitor.visit((PolicyDecisionPoint) node);
+        } else if (type == PolicyEnforcementPoints.class) {
+            visitor.visit((PolicyEnforcementPoints) node);
+        } else if (type == PolicyInformationPoints.class) {
+            visitor.visit((PolicyInformationPoints) node);
+        } else if (type == AccessControl.class) {
+            visitor.visit((AccessControl) node);
+        } else if (type == AccessPermissionRule.class) {
+            visitor.visit((AccessPermissionRule) node);
+        } else if (type == SubjectAttributes.class) {
+            visitor.visit((SubjectAttributes) node);
+        } else if (type == PermissionsPerObject.class) {
+            visitor.visit((PermissionsPerObject) node);
+        } else if (type == ObjectAttributes.class) {
+            visitor.visit((ObjectAttributes) node);
+        } else if (type == Permission.class) {
+            visitor.visit((Permission) node);
+        }
+    }
+
+    private void pushChildren(Object node, Class<?> type) {
+        if (type == AssetAdministrationShellEnvironment.class) {
+            AssetAdministrationShellEnvironment environment = (AssetAdministrationShellEnvironment) node;
+            pushAll(environment.getAssetAdministrationShells(), AssetAdministrationShell.class);
+            pushAll(environment.getConceptDescriptions(), ConceptDescription.class);
+            pushAll(environment.getSubmodels(), Submodel.class);
+        } else if (type == AssetAdministrationShell.class) {
+            AssetAdministrationShell shell = (AssetAdministrationShell) node;
+            push(shell.getDerivedFrom(), Reference.class);
+            push(shell.getSecurity(), Security.class);
+            push(shell.getAssetInformation(), AssetInformation.class);
+            pushAll(shell.getSubmodels(), Reference.class);
+            pushAll(shell.getViews(), View.class);
+        } else if (type == ConceptDescription.class) {
+            pushAll(((ConceptDescription) node).getIsCaseOfs(), Reference.class);
+        } else if (type == Submodel.class) {
+            pushAll(((Submodel) node).getSubmodelElements(), SubmodelElement.class);
+        } else if (type == SubmodelElement.class || type == DataElement.class) {
+            pushSubmodelElementChildren((SubmodelElement) node);
+        } else if (type == Reference.class) {
+            pushAll(((Reference) node).getKeys(), Key.class);
+        } else if (type == IdentifierKeyValuePair.class) {
+            push(((IdentifierKeyValuePair) node).getExternalSubjectId(), Reference.class);
+        } else if (type == AssetInformation.class) {
+            AssetInformation assetInformation = (AssetInformation) node;
+            push(assetInformation.getGlobalAssetId(), Reference.class);
+            push(assetInformation.getDefaultThumbnail(), File.class);
+            pushAll(assetInformation.getSpecificAssetIds(), IdentifierKeyValuePair.class);
+            pushAll(assetInformation.getBillOfMaterials(), Reference.class);
+        } else if (type == View.class) {
+            pushAll(((View) node).getContainedElements(), Reference.class);
+        } else if (type == Security.class) {
+            Security security = (Security) node;
+            push(security.getAccessControlPolicyPoints(), AccessControlPolicyPoints.class);
+            pushAll(security.getCertificates(), Certificate.class);
+            pushAll(security.getRequiredCertificateExtensions(), Reference.class);
+        } else if (type == Certificate.class) {
+            Certificate certificate = (Certificate) node;
+            push(certificate.getPolicyAdministrationPoint(), PolicyAdministrationPoint.class);
+            if (certificate instanceof BlobCertificate) {
+                BlobCertificate blobCertificate = (BlobCertificate) certificate;
+                push(blobCertificate.getBlobCertificate(), Blob.class);
+                push(blobCertificate.getPolicyAdministrationPoint(), PolicyAdministrationPoint.class);
+                pushAll(blobCertificate.getContainedExtensions(), Reference.class);
+            }
+        } else if (type == AccessControlPolicyPoints.class) {
+            AccessControlPolicyPoints accessControlPolicyPoints = (AccessControlPolicyPoints) node;
+            push(accessControlPolicyPoints.getPolicyAdministrationPoint(), PolicyAdministrationPoint.class);
+            push(accessControlPolicyPoints.getPolicyDecisionPoint(), PolicyDecisionPoint.class);
+            push(accessControlPolicyPoints.getPolicyEnforcementPoint(), PolicyEnforcementPoints.class);
+            push(accessControlPolicyPoints.getPolicyInformationPoints(), PolicyInformationPoints.class);
+        } else if (type == PolicyAdministrationPoint.class) {
+            push(((PolicyAdministrationPoint) node).getLocalAccessControl(), AccessControl.class);
+        } else if (type == PolicyInformationPoints.class) {
+            pushAllResolved(((PolicyInformationPoints) node).getInternalInformationPoints());
+        } else if (type == AccessControl.class) {
+            AccessControl accessControl = (AccessControl) node;
+            pushResolved(accessControl.getDefaultEnvironmentAttributes());
+            pushResolved(accessControl.getDefaultPermissions());
+            pushResolved(accessControl.getDefaultSubjectAttributes());
+            pushResolved(accessControl.getSelectableEnvironmentAttributes());
+            pushResolved(accessControl.getSelectablePermissions());
+            pushResolved(accessControl.getSelectableSubjectAttributes());
+            pushAll(accessControl.getAccessPermissionRules(), AccessPermissionRule.class);
+        } else if (type == AccessPermissionRule.class) {
+            AccessPermissionRule accessPermissionRule = (AccessPermissionRule) node;
+            push(accessPermissionRule.getTargetSubjectAttributes(), SubjectAttributes.class);
+            pushAll(accessPermissionRule.getPermissionsPerObjects(), PermissionsPerObject.class);
+        } else if (type == SubjectAttributes.class) {
+            pushAll(((SubjectAttributes) node).getSubjectAttributes(), DataElement.class);
+        } else if (type == PermissionsPerObject.class) {
+            PermissionsPerObject permissionsPerObject = (PermissionsPerObject) node;
+            pushResolved(permissionsPerObject.getObject());
+            push(permissionsPerObject.getTargetObjectAttributes(), ObjectAttributes.class);
+            pushAll(permissionsPerObject.getPermissions(), Permission.class);
+        } else if (type == ObjectAttributes.class) {
+            pushAllResolved(((ObjectAttributes) node).getObjectAttributes());
+        } else if (type == Permission.class) {
+            pushResolved(((Permission) node).getPermission());
+        }
+    }
+
+    private void pushSubmodelElementChildren(SubmodelElement submodelElement) {
+        if (submodelElement instanceof RelationshipElement) {
+            RelationshipElement relationshipElement = (RelationshipElement) submodelElement;
+            push(relationshipElement.getFirst(), Reference.class);
+            push(relationshipElement.getSecond(), Reference.class);
+        } else if (submodelElement instanceof Property) {
+            push(((Property) submodelElement).getValueId(), Reference.class);
+        } else if (submodelElement instanceof MultiLanguageProperty) {
+            MultiLanguageProperty multiLanguageProperty = (MultiLanguageProperty) submodelElement;
+            pushAll(multiLanguageProperty.getValues(), LangString.class);
+            push(multiLanguageProperty.getValueId(), Reference.class);
+        } else if (submodelElement instanceof ReferenceElement) {
+            push(((ReferenceElement) submodelElement).getValue(), Reference.class);
+        } else if (submodelElement instanceof SubmodelElementCollection) {
+            pushAll(((SubmodelElementCollection) submodelElement).getValues(), SubmodelElement.class);
+        } else if (submodelElement instanceof Operation) {
+            Operation operation = (Operation) submodelElement;
+            pushVariableValues(operation.getInputVariables());
+            pushVariableValues(operation.getInoutputVariables());
+            pushVariableValues(operation.getOutputVariables());
+        } else if (submodelElement instanceof BasicEvent) {
+            push(((BasicEvent) submodelElement).getObserved(), Reference.class);
+        } else if (submodelElement instanceof Entity) {
+            Entity entity = (Entity) submodelElement;
+            push(entity.getGlobalAssetId(), Reference.class);
+            push(entity.getSpecificAssetId(), IdentifierKeyValuePair.class);
+            pushAll(entity.getStatements(), SubmodelElement.class);
+        }
+    }
+
+    private void pushVariableValues(Collection<OperationVariable> variables) {
+        if (variables == null) {
+            return;
+        }
+        for (OperationVariable variable : variables) {
+            push(variable.getValue(), SubmodelElement.class);
+        }
+    }
+}
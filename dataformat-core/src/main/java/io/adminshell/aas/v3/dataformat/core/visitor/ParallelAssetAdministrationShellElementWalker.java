@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.visitor;
+
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.Submodel;
+import io.adminshell.aas.v3.model.SubmodelElement;
+import io.adminshell.aas.v3.model.SubmodelElementCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Walks an AssetAdministrationShellEnvironment in parallel using a
+ * ForkJoinPool. The asset administration shells, concept descriptions and
+ * submodels of the environment are distributed over multiple tasks, each of
+ * them walking its elements sequentially using a
+ * AssetAdministrationShellElementWalkerVisitor. The elements of submodels and
+ * submodel element collections with more than SPLIT_THRESHOLD elements are
+ * distributed over the tasks as well, unless the visitors override
+ * visit(Submodel) respectively visit(SubmodelElementCollection). Therefore,
+ * the same elements are visited as when walking the environment sequentially,
+ * but in no defined order. visit(AssetAdministrationShellEnvironment) itself
+ * is not called on the visitors.
+ *
+ * Visitors can either be shared by all tasks, in which case they must be
+ * thread-safe, or be created per task using a factory. In the latter case
+ * each visitor instance is only used by a single thread and the per-task
+ * results are merged using a combiner function. Results are combined in the
+ * order of the elements in the environment, i.e. the left argument of the
+ * combiner always holds the result of elements preceding those of the right
+ * argument. Whether visitors created by a factory override visit(Submodel)
+ * or visit(SubmodelElementCollection) is determined from the first visitor
+ * created.
+ *
+ * Example counting all properties:
+ * <pre>
+ * int count = new ParallelAssetAdministrationShellElementWalker().walk(
+ *         environment,
+ *         PropertyCounter::new,
+ *         PropertyCounter::getCount,
+ *         Integer::sum);
+ * </pre>
+ */
+public class ParallelAssetAdministrationShellElementWalker {
+
+    /**
+     * Submodels and submodel element collections with more elements than this
+     * are split into multiple tasks
+     */
+    public static final int SPLIT_THRESHOLD = 64;
+    private static final int TASKS_PER_THREAD = 4;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new instance using the common ForkJoinPool
+     */
+    public ParallelAssetAdministrationShellElementWalker() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance using the given ForkJoinPool
+     *
+     * @param pool the pool to execute tasks in
+     */
+    public ParallelAssetAdministrationShellElementWalker(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must be non-null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Walks the environment using a single visitor shared by all tasks. The
+     * visitor must be thread-safe.
+     *
+     * @param environment the environment to walk
+     * @param visitor thread-safe visitor to use
+     */
+    public void walk(AssetAdministrationShellEnvironment environment, AssetAdministrationShellElementWalkerVisitor visitor) {
+        walk(environment, () -> visitor, x -> null, (x, y) -> null);
+    }
+
+    /**
+     * Walks the environment creating a new visitor for each task and merges
+     * the results of all visitors.
+     *
+     * @param <V> type of the visitor
+     * @param <R> type of the result
+     * @param environment the environment to walk
+     * @param visitorFactory creates a new visitor for each task
+     * @param finisher extracts the result from a visitor after its task is
+     * finished
+     * @param combiner merges the results of two tasks
+     * @return the merged result of all visitors. If the environment is null or
+     * empty, this is the result of a single visitor that has not visited any
+     * element
+     */
+    public <V extends AssetAdministrationShellElementWalkerVisitor, R> R walk(AssetAdministrationShellEnvironment environment,
+            Supplier<? extends V> visitorFactory,
+            Function<? super V, ? extends R> finisher,
+            BinaryOperator<R> combiner) {
+        // the first visitor decides how to split and is then used by the first task
+        AtomicReference<V> first = new AtomicReference<>(visitorFactory.get());
+        Class<?> visitorType = first.get().getClass();
+        Splitter splitter = new Splitter(
+                walksElements(visitorType, Submodel.class),
+                walksElements(visitorType, SubmodelElementCollection.class));
+        if (environment != null) {
+            splitter.elements.addAll(environment.getAssetAdministrationShells());
+            splitter.elements.addAll(environment.getConceptDescriptions());
+            environment.getSubmodels().forEach(splitter::addSubmodel);
+        }
+        List<Object> elements = splitter.elements;
+        int batchSize = Math.max(1, elements.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        Supplier<V> factory = () -> {
+            V visitor = first.getAndSet(null);
+            return visitor != null
+                    ? visitor
+                    : visitorFactory.get();
+        };
+        return pool.invoke(new WalkTask<>(elements, 0, elements.size(), batchSize, factory, finisher, combiner));
+    }
+
+    /**
+     * Checks whether the given visitor type uses the default implementation of
+     * visit(containerType), which only walks the elements of the container
+     *
+     * @param visitorType the type of the visitor
+     * @param containerType Submodel or SubmodelElementCollection
+     * @return true if the visitor type does not override visit(containerType)
+     */
+    private static boolean walksElements(Class<?> visitorType, Class<?> containerType) {
+        try {
+            return visitorType.getMethod("visit", containerType).getDeclaringClass() == AssetAdministrationShellElementWalkerVisitor.class;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Collects the elements to distribute over the tasks. Containers whose
+     * elements are distributed are not added themselves, as the default
+     * implementations of visit(Submodel) and visit(SubmodelElementCollection)
+     * do nothing but walking the elements.
+     */
+    private static class Splitter {
+
+        private final List<Object> elements = new ArrayList<>();
+        private final boolean splitSubmodels;
+        private final boolean splitCollections;
+
+        private Splitter(boolean splitSubmodels, boolean splitCollections) {
+            this.splitSubmodels = splitSubmodels;
+            this.splitCollections = splitCollections;
+        }
+
+        private void addSubmodel(Submodel submodel) {
+            if (!splitSubmodels || submodel == null || submodel.getSubmodelElements().size() <= SPLIT_THRESHOLD) {
+                elements.add(submodel);
+                return;
+            }
+            submodel.getSubmodelElements().forEach(this::addSubmodelElement);
+        }
+
+        private void addSubmodelElement(SubmodelElement submodelElement) {
+            if (!splitCollections || !(submodelElement instanceof SubmodelElementCollection)) {
+                elements.add(submodelElement);
+                return;
+            }
+            Collection<SubmodelElement> values = ((SubmodelElementCollection) submodelElement).getValues();
+            if (values.size() <= SPLIT_THRESHOLD) {
+                elements.add(submodelElement);
+                return;
+            }
+            values.forEach(this::addSubmodelElement);
+        }
+    }
+
+    private static class WalkTask<V extends AssetAdministrationShellElementWalkerVisitor, R> extends RecursiveTask<R> {
+
+        private final List<Object> elements;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+        private final Supplier<? extends V> visitorFactory;
+        private final Function<? super V, ? extends R> finisher;
+        private final BinaryOperator<R> combiner;
+
+        private WalkTask(List<Object> elements,
+                int from,
+                int to,
+                int batchSize,
+                Supplier<? extends V> visitorFactory,
+                Function<? super V, ? extends R> finisher,
+                BinaryOperator<R> combiner) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+            this.visitorFactory = visitorFactory;
+            this.finisher = finisher;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= batchSize) {
+                V visitor = visitorFactory.get();
+                for (int i = from; i < to; i++) {
+                    visit(visitor, elements.get(i));
+                }
+                return finisher.apply(visitor);
+            }
+            int middle = (from + to) >>> 1;
+            WalkTask<V, R> left = new WalkTask<>(elements, from, middle, batchSize, visitorFactory, finisher, combiner);
+            WalkTask<V, R> right = new WalkTask<>(elements, middle, to, batchSize, visitorFactory, finisher, combiner);
+            left.fork();
+            R rightResult = right.compute();
+            return combiner.apply(left.join(), rightResult);
+        }
+
+        private static void visit(AssetAdministrationShellElementWalkerVisitor visitor, Object element) {
+            // call typed methods as visit(Identifiable) would additionally visit identification and administration
+            if (element instanceof AssetAdministrationShell) {
+                visitor.visit((AssetAdministrationShell) element);
+            } else if (element instanceof ConceptDescription) {
+                visitor.visit((ConceptDescription) element);
+            } else if (element instanceof Submodel) {
+                visitor.visit((Submodel) element);
+            } else if (element instanceof SubmodelElement) {
+                visitor.visit((SubmodelElement) element);
+            }
+        }
+    }
+}
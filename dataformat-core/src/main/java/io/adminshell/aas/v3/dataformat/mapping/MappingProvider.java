@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +43,8 @@ public class MappingProvider<T extends Mapper> {
     private final T defaultMapper;
     private final T defaultCollectionMapper;
     private final Map<TypeToken<?>, List<T>> mappings = new HashMap<>();
+    // replaced on register so that lookups never see stale results
+    private volatile Map<Type, T> dispatchCache = new ConcurrentHashMap<>();
 
     public MappingProvider(Class<T> type,
             Mapper<Object> defaultMapper,
@@ -65,12 +68,13 @@ public class MappingProvider<T extends Mapper> {
         this.defaultCollectionMapper = (T) defaultCollectionMapper;
     }
 
-    public void register(T mapper) {
+    public synchronized void register(T mapper) {
         TypeToken<?> key = getMappedType(mapper.getClass());
         if (!mappings.containsKey(key)) {
             mappings.put(key, new ArrayList<>());
         }
         mappings.get(key).add(mapper);
+        dispatchCache = new ConcurrentHashMap<>();
     }
 
     private TypeToken<?> getMappedType(Class<?> type) {
@@ -100,12 +104,25 @@ public class MappingProvider<T extends Mapper> {
     }
 
     /**
-     * Find the most specific mapper for a given type.
+     * Find the most specific mapper for a given type. Results are cached per
+     * type until another mapper is registered.
      *
      * @param type The type to find a suitable mapper for.
      * @return The most specific mapper for the given type
      */
     public T getMapper(Type type) {
+        Map<Type, T> cache = dispatchCache;
+        T result = cache.get(type);
+        if (result == null) {
+            synchronized (this) {
+                result = findMapper(type);
+            }
+            cache.putIfAbsent(type, result);
+        }
+        return result;
+    }
+
+    private T findMapper(Type type) {
         Optional<List<T>> customMapper = mappings.entrySet().stream()
                 .filter(x -> x.getKey().isSupertypeOf(type))
                 .sorted((x, y) -> Objects.compare(x.getKey(), y.getKey(), new MostSpecificTypeTokenComparator()))
@@ -17,12 +17,18 @@ package io.adminshell.aas.v3.dataformat.core;
 
 
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.PropertyAccessor;
 import io.adminshell.aas.v3.model.KeyElements;
 import io.adminshell.aas.v3.model.KeyType;
+import io.adminshell.aas.v3.model.Property;
 import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.stream.Collectors;
+
 public class AasUtilsTest {
 
     @Test
@@ -34,4 +40,23 @@ public class AasUtilsTest {
         Assert.assertEquals(KeyType.ID_SHORT, reference.getKeys().get(0).getIdType());
         Assert.assertEquals("Temperature", reference.getKeys().get(0).getValue());
     }
+
+    @Test
+    public void testPropertyAccessors() throws InvocationTargetException {
+        Assert.assertEquals(AasUtils.getAasProperties(DefaultProperty.class),
+                AasUtils.getAasPropertyAccessors(DefaultProperty.class).stream()
+                        .map(PropertyAccessor::getDescriptor)
+                        .collect(Collectors.toList()));
+        AasUtils.getAasProperties(DefaultProperty.class).clear();
+        Assert.assertFalse(AasUtils.getAasProperties(DefaultProperty.class).isEmpty());
+        PropertyAccessor idShort = AasUtils.getPropertyAccessor(DefaultProperty.class, "idShort");
+        Assert.assertNotNull(idShort);
+        Assert.assertSame(idShort, PropertyAccessor.of(idShort.getDescriptor()));
+        Assert.assertEquals(String.class, idShort.getType());
+        Property property = new DefaultProperty();
+        idShort.set(property, "Temperature");
+        Assert.assertEquals("Temperature", property.getIdShort());
+        Assert.assertEquals("Temperature", idShort.get(property));
+        Assert.assertNull(AasUtils.getPropertyAccessor(DefaultProperty.class, "unknown"));
+    }
 }
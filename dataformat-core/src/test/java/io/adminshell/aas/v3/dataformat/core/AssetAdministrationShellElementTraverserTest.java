@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementTraverser;
+import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementVisitor;
+import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementWalkerVisitor;
+import io.adminshell.aas.v3.model.Key;
+import io.adminshell.aas.v3.model.LangString;
+import io.adminshell.aas.v3.model.Property;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.Submodel;
+import io.adminshell.aas.v3.model.SubmodelElement;
+import io.adminshell.aas.v3.model.SubmodelElementCollection;
+import io.adminshell.aas.v3.model.impl.DefaultSubmodelElementCollection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AssetAdministrationShellElementTraverserTest {
+
+    private static void count(Map<Object, Integer> counts, Object element) {
+        // the walker passes absent elements as null, the traverser skips them
+        if (element != null) {
+            counts.merge(element, 1, Integer::sum);
+        }
+    }
+
+    @Test
+    public void testVisitsSameElementsAsWalker() {
+        Map<Object, Integer> expected = new IdentityHashMap<>();
+        new AssetAdministrationShellElementWalkerVisitor() {
+            @Override
+            public void visit(Submodel submodel) {
+                count(expected, submodel);
+                AssetAdministrationShellElementWalkerVisitor.super.visit(submodel);
+            }
+
+            @Override
+            public void visit(Property property) {
+                count(expected, property);
+                AssetAdministrationShellElementWalkerVisitor.super.visit(property);
+            }
+
+            @Override
+            public void visit(Reference reference) {
+                count(expected, reference);
+                AssetAdministrationShellElementWalkerVisitor.super.visit(reference);
+            }
+
+            @Override
+            public void visit(Key key) {
+                count(expected, key);
+            }
+
+            @Override
+            public void visit(LangString langString) {
+                count(expected, langString);
+            }
+        }.visit(AASFull.ENVIRONMENT);
+        Map<Object, Integer> actual = new IdentityHashMap<>();
+        new AssetAdministrationShellElementTraverser(new AssetAdministrationShellElementVisitor() {
+            @Override
+            public void visit(Submodel submodel) {
+                count(actual, submodel);
+            }
+
+            @Override
+            public void visit(Property property) {
+                count(actual, property);
+            }
+
+            @Override
+            public void visit(Reference reference) {
+                count(actual, reference);
+            }
+
+            @Override
+            public void visit(Key key) {
+                count(actual, key);
+            }
+
+            @Override
+            public void visit(LangString langString) {
+                count(actual, langString);
+            }
+        }).traverse(AASFull.ENVIRONMENT);
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDeepNesting() {
+        SubmodelElement element = new DefaultSubmodelElementCollection.Builder()
+                .idShort("collection")
+                .build();
+        for (int i = 0; i < 100000; i++) {
+            element = new DefaultSubmodelElementCollection.Builder()
+                    .idShort("collection")
+                    .value(element)
+                    .build();
+        }
+        int[] count = new int[1];
+        boolean completed = new AssetAdministrationShellElementTraverser(new AssetAdministrationShellElementVisitor() {
+            @Override
+            public void visit(SubmodelElementCollection submodelElementCollection) {
+                count[0]++;
+            }
+        }).traverse(element);
+        Assert.assertTrue(completed);
+        Assert.assertEquals(100001, count[0]);
+    }
+
+    @Test
+    public void testSkipChildrenAndTerminate() {
+        int[] references = new int[1];
+        int[] keys = new int[1];
+        AssetAdministrationShellElementTraverser[] traverser = new AssetAdministrationShellElementTraverser[1];
+        traverser[0] = new AssetAdministrationShellElementTraverser(new AssetAdministrationShellElementVisitor() {
+            @Override
+            public void visit(Reference reference) {
+                references[0]++;
+                traverser[0].skipChildren();
+            }
+
+            @Override
+            public void visit(Key key) {
+                keys[0]++;
+            }
+
+            @Override
+            public void visit(Property property) {
+                traverser[0].terminate();
+            }
+        });
+        Assert.assertFalse(traverser[0].traverse(AASFull.ENVIRONMENT));
+        Assert.assertTrue(references[0] > 0);
+        Assert.assertEquals(0, keys[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWalkerVisitorNotAllowed() {
+        new AssetAdministrationShellElementTraverser(new AssetAdministrationShellElementWalkerVisitor() {
+        });
+    }
+}
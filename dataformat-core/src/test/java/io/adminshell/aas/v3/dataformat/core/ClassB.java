@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.adminshell.aas.v3.model;
+package io.adminshell.aas.v3.dataformat.core;
 
 public class ClassB extends ClassA {
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.model.KeyElements;
+import io.adminshell.aas.v3.model.KeyType;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.impl.DefaultDataSpecificationIEC61360;
+import io.adminshell.aas.v3.model.impl.DefaultKey;
+import io.adminshell.aas.v3.model.impl.DefaultReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DataSpecificationManagerTest {
+
+    public static class CustomDataSpecification extends DefaultDataSpecificationIEC61360 {
+    }
+
+    public static class SpecialCustomDataSpecification extends CustomDataSpecification {
+    }
+
+    private static Reference createGlobalIri(String iri) {
+        return new DefaultReference.Builder()
+                .key(new DefaultKey.Builder()
+                        .type(KeyElements.GLOBAL_REFERENCE)
+                        .idType(KeyType.IRI)
+                        .value(iri)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void testGetDataSpecificationIEC61360() {
+        DataSpecificationInfo info = DataSpecificationManager.getDataSpecification(DefaultDataSpecificationIEC61360.class);
+        Assert.assertNotNull(info);
+        Assert.assertEquals(DataSpecificationManager.DATA_SPECIFICATION_IEC61360_PREFIX, info.getPrefix());
+        Assert.assertSame(info, DataSpecificationManager.getDataSpecification(
+                createGlobalIri(DataSpecificationManager.DATA_SPECIFICATION_IEC61360_IRI)));
+        Assert.assertNull(DataSpecificationManager.getDataSpecification(createGlobalIri("http://example.org/unknown")));
+    }
+
+    @Test
+    public void testGetDataSpecificationReturnsMostSpecific() {
+        DataSpecificationInfo iec = DataSpecificationManager.getDataSpecification(DefaultDataSpecificationIEC61360.class);
+        // lookup before registration must not be cached across registrations
+        Assert.assertSame(iec, DataSpecificationManager.getDataSpecification(SpecialCustomDataSpecification.class));
+        DataSpecificationInfo custom = new DataSpecificationInfo(CustomDataSpecification.class,
+                createGlobalIri("http://example.org/custom"),
+                "CUSTOM");
+        DataSpecificationManager.register(custom);
+        Assert.assertSame(custom, DataSpecificationManager.getDataSpecification(CustomDataSpecification.class));
+        Assert.assertSame(custom, DataSpecificationManager.getDataSpecification(SpecialCustomDataSpecification.class));
+        Assert.assertSame(iec, DataSpecificationManager.getDataSpecification(DefaultDataSpecificationIEC61360.class));
+        Assert.assertSame(custom, DataSpecificationManager.getDataSpecification(createGlobalIri("http://example.org/custom")));
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        int count = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String iri = "http://example.org/concurrent/" + i;
+                futures.add(executor.submit(() -> {
+                    DataSpecificationManager.register(new DataSpecificationInfo(CustomDataSpecification.class, createGlobalIri(iri), "C"));
+                    Assert.assertNotNull(DataSpecificationManager.getDataSpecification(createGlobalIri(iri)));
+                    Assert.assertNotNull(DataSpecificationManager.getDataSpecification(SpecialCustomDataSpecification.class));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < count; i++) {
+            Assert.assertNotNull(DataSpecificationManager.getDataSpecification(createGlobalIri("http://example.org/concurrent/" + i)));
+        }
+    }
+}
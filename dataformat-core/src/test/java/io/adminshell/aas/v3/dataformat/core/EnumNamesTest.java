@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnumNames;
+import io.adminshell.aas.v3.model.KeyElements;
+import io.adminshell.aas.v3.model.KeyType;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EnumNamesTest {
+
+    @Test
+    public void testMatchesAasUtils() {
+        Assert.assertFalse(ReflectionHelper.ENUMS.isEmpty());
+        for (Class<Enum> type : ReflectionHelper.ENUMS) {
+            EnumNames names = EnumNames.of((Class) type);
+            for (Enum value : type.getEnumConstants()) {
+                String name = AasUtils.serializeEnumName(value.name());
+                Assert.assertEquals(name, EnumNames.serialize(value));
+                Assert.assertEquals(name, names.getName(value));
+                Assert.assertSame(value, names.valueOf(name));
+                Assert.assertSame(value, Enum.valueOf(type, AasUtils.deserializeEnumName(name)));
+            }
+        }
+    }
+
+    @Test
+    public void testValueOf() {
+        Assert.assertEquals(KeyType.ID_SHORT, EnumNames.of(KeyType.class).valueOf("IdShort"));
+        Assert.assertEquals(KeyElements.SUBMODEL_ELEMENT_COLLECTION, EnumNames.of(KeyElements.class).valueOf("SubmodelElementCollection"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOfUnknown() {
+        EnumNames.of(KeyType.class).valueOf("Unknown");
+    }
+}
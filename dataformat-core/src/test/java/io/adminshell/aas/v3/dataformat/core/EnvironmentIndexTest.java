@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnvironmentIndex;
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.Property;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.Submodel;
+import io.adminshell.aas.v3.model.SubmodelElement;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EnvironmentIndexTest {
+
+    @Test
+    public void testResolve() {
+        AssetAdministrationShellEnvironment environment = AASSimple.createEnvironment();
+        EnvironmentIndex index = new EnvironmentIndex(environment);
+        Submodel submodel = environment.getSubmodels().stream()
+                .filter(x -> AASSimple.SUBMODEL_TECHNICAL_DATA_ID.equals(x.getIdentification().getIdentifier()))
+                .findFirst()
+                .get();
+        SubmodelElement property = submodel.getSubmodelElements().get(0);
+        Reference submodelReference = AasUtils.toReference(submodel);
+        Reference propertyReference = AasUtils.toReference(submodelReference, property);
+        Assert.assertSame(submodel, AasUtils.resolve(submodelReference, index));
+        Assert.assertSame(property, AasUtils.resolve(propertyReference, index));
+        Assert.assertSame(property, AasUtils.resolve(propertyReference, index, Property.class));
+        Assert.assertNull(AasUtils.resolve(propertyReference, index, Submodel.class));
+        Assert.assertEquals(AasUtils.resolve(propertyReference, environment), AasUtils.resolve(propertyReference, index));
+    }
+
+    @Test
+    public void testResolveWithoutIndex() {
+        AssetAdministrationShellEnvironment environment = AASFull.createEnvironment();
+        EnvironmentIndex index = new EnvironmentIndex(environment);
+        for (Submodel submodel : environment.getSubmodels()) {
+            Reference submodelReference = AasUtils.toReference(submodel);
+            Assert.assertSame(index.resolve(submodelReference), AasUtils.resolve(submodelReference, environment));
+            for (SubmodelElement element : submodel.getSubmodelElements()) {
+                Reference elementReference = AasUtils.toReference(submodelReference, element);
+                Assert.assertSame(element, AasUtils.resolve(elementReference, environment));
+                Assert.assertSame(index.resolve(elementReference), AasUtils.resolve(elementReference, environment));
+            }
+        }
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        AssetAdministrationShellEnvironment environment = AASSimple.createEnvironment();
+        EnvironmentIndex index = new EnvironmentIndex(environment);
+        Submodel submodel = AASSimple.createSubmodelTechnicalData();
+        submodel.getIdentification().setIdentifier("http://example.org/submodel");
+        Reference submodelReference = AasUtils.toReference(submodel);
+        Assert.assertNull(index.resolve(submodelReference));
+        index.add(submodel);
+        Assert.assertSame(submodel, index.resolve(submodelReference));
+
+        Property property = new DefaultProperty.Builder()
+                .idShort("NewProperty")
+                .build();
+        Reference propertyReference = AasUtils.toReference(submodelReference, property);
+        submodel.getSubmodelElements().add(property);
+        index.add(submodel, property);
+        Assert.assertSame(property, index.resolve(propertyReference));
+        submodel.getSubmodelElements().remove(property);
+        index.remove(submodel, property);
+        Assert.assertThrows(IllegalArgumentException.class, () -> index.resolve(propertyReference));
+
+        index.remove(submodel);
+        Assert.assertNull(index.resolve(submodelReference));
+    }
+
+    @Test
+    public void testResolveAmbiguousIdShort() {
+        AssetAdministrationShellEnvironment environment = AASSimple.createEnvironment();
+        Submodel submodel = environment.getSubmodels().get(0);
+        SubmodelElement property = submodel.getSubmodelElements().get(0);
+        submodel.getSubmodelElements().add(new DefaultProperty.Builder()
+                .idShort(property.getIdShort())
+                .build());
+        Reference propertyReference = AasUtils.toReference(AasUtils.toReference(submodel), property);
+        EnvironmentIndex index = new EnvironmentIndex(environment);
+        Assert.assertThrows(IllegalArgumentException.class, () -> index.resolve(propertyReference));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AasUtils.resolve(propertyReference, environment));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddElementNotContainedInParent() {
+        EnvironmentIndex index = new EnvironmentIndex();
+        index.add(AASSimple.createSubmodelTechnicalData(), new DefaultProperty.Builder()
+                .idShort("NewProperty")
+                .build());
+    }
+}
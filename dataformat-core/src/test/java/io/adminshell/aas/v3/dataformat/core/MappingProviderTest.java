@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.mapping.Mapper;
+import io.adminshell.aas.v3.dataformat.mapping.MappingProvider;
+import io.adminshell.aas.v3.model.Property;
+import io.adminshell.aas.v3.model.SubmodelElement;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
+import java.util.Collection;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MappingProviderTest {
+
+    private static class DefaultMapper implements Mapper<Object> {
+    }
+
+    private static class DefaultCollectionMapper implements Mapper<Collection<Object>> {
+    }
+
+    private static class SubmodelElementMapper implements Mapper<SubmodelElement> {
+    }
+
+    private static class PropertyMapper implements Mapper<Property> {
+    }
+
+    @Test
+    public void testGetMapper() {
+        DefaultMapper defaultMapper = new DefaultMapper();
+        DefaultCollectionMapper defaultCollectionMapper = new DefaultCollectionMapper();
+        SubmodelElementMapper submodelElementMapper = new SubmodelElementMapper();
+        MappingProvider<Mapper> provider = new MappingProvider<>(Mapper.class, defaultMapper, defaultCollectionMapper);
+        provider.register(submodelElementMapper);
+        Assert.assertSame(submodelElementMapper, provider.getMapper(DefaultProperty.class));
+        Assert.assertSame(submodelElementMapper, provider.getMapper(new DefaultProperty()));
+        Assert.assertSame(defaultMapper, provider.getMapper(String.class));
+        Assert.assertSame(defaultCollectionMapper, provider.getMapper(List.class));
+    }
+
+    @Test
+    public void testRegisterInvalidatesCachedMappers() {
+        SubmodelElementMapper submodelElementMapper = new SubmodelElementMapper();
+        PropertyMapper propertyMapper = new PropertyMapper();
+        MappingProvider<Mapper> provider = new MappingProvider<>(Mapper.class, new DefaultMapper(), new DefaultCollectionMapper());
+        provider.register(submodelElementMapper);
+        Assert.assertSame(submodelElementMapper, provider.getMapper(DefaultProperty.class));
+        provider.register(propertyMapper);
+        Assert.assertSame(propertyMapper, provider.getMapper(DefaultProperty.class));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.visitor.AssetAdministrationShellElementWalkerVisitor;
+import io.adminshell.aas.v3.dataformat.core.visitor.ParallelAssetAdministrationShellElementWalker;
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.Property;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.Submodel;
+import io.adminshell.aas.v3.model.SubmodelElementCollection;
+import io.adminshell.aas.v3.model.impl.DefaultAssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
+import io.adminshell.aas.v3.model.impl.DefaultSubmodel;
+import io.adminshell.aas.v3.model.impl.DefaultSubmodelElementCollection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelAssetAdministrationShellElementWalkerTest {
+
+    private static class Counter implements AssetAdministrationShellElementWalkerVisitor {
+
+        private int properties;
+        private int references;
+
+        @Override
+        public void visit(Property property) {
+            properties++;
+            AssetAdministrationShellElementWalkerVisitor.super.visit(property);
+        }
+
+        @Override
+        public void visit(Reference reference) {
+            references++;
+            AssetAdministrationShellElementWalkerVisitor.super.visit(reference);
+        }
+
+        private List<Integer> getCounts() {
+            return List.of(properties, references);
+        }
+    }
+
+    private static class ContainerCounter implements AssetAdministrationShellElementWalkerVisitor {
+
+        private int properties;
+        private int submodels;
+        private int collections;
+
+        @Override
+        public void visit(Property property) {
+            properties++;
+            AssetAdministrationShellElementWalkerVisitor.super.visit(property);
+        }
+
+        @Override
+        public void visit(Submodel submodel) {
+            submodels++;
+            AssetAdministrationShellElementWalkerVisitor.super.visit(submodel);
+        }
+
+        @Override
+        public void visit(SubmodelElementCollection submodelElementCollection) {
+            collections++;
+            AssetAdministrationShellElementWalkerVisitor.super.visit(submodelElementCollection);
+        }
+    }
+
+    @Test
+    public void testWalkWithVisitorFactory() {
+        Counter expected = new Counter();
+        expected.visit(AASFull.ENVIRONMENT);
+        List<Integer> actual = new ParallelAssetAdministrationShellElementWalker(new ForkJoinPool(4)).walk(
+                AASFull.ENVIRONMENT,
+                Counter::new,
+                Counter::getCounts,
+                (x, y) -> List.of(x.get(0) + y.get(0), x.get(1) + y.get(1)));
+        Assert.assertEquals(expected.getCounts(), actual);
+    }
+
+    @Test
+    public void testWalkWithSharedVisitor() {
+        Counter expected = new Counter();
+        expected.visit(AASFull.ENVIRONMENT);
+        AtomicInteger properties = new AtomicInteger();
+        new ParallelAssetAdministrationShellElementWalker().walk(AASFull.ENVIRONMENT, new AssetAdministrationShellElementWalkerVisitor() {
+            @Override
+            public void visit(Property property) {
+                properties.incrementAndGet();
+                AssetAdministrationShellElementWalkerVisitor.super.visit(property);
+            }
+        });
+        Assert.assertEquals(expected.getCounts().get(0).intValue(), properties.get());
+    }
+
+    private static AssetAdministrationShellEnvironment createLargeEnvironment(int size) {
+        DefaultSubmodelElementCollection collection = new DefaultSubmodelElementCollection.Builder()
+                .idShort("collection")
+                .build();
+        DefaultSubmodel submodel = new DefaultSubmodel.Builder()
+                .idShort("submodel")
+                .build();
+        for (int i = 0; i < size; i++) {
+            collection.getValues().add(new DefaultProperty.Builder().idShort("collectionProperty" + i).build());
+            submodel.getSubmodelElements().add(new DefaultProperty.Builder().idShort("property" + i).build());
+        }
+        submodel.getSubmodelElements().add(collection);
+        return new DefaultAssetAdministrationShellEnvironment.Builder()
+                .submodels(submodel)
+                .build();
+    }
+
+    private static <T> List<T> concat(List<T> x, List<T> y) {
+        List<T> result = new ArrayList<>(x);
+        result.addAll(y);
+        return result;
+    }
+
+    @Test
+    public void testWalkSplitsLargeSubmodels() {
+        int size = ParallelAssetAdministrationShellElementWalker.SPLIT_THRESHOLD * 4;
+        List<Integer> actual = new ParallelAssetAdministrationShellElementWalker(new ForkJoinPool(4)).walk(
+                createLargeEnvironment(size),
+                Counter::new,
+                x -> List.of(x.properties),
+                ParallelAssetAdministrationShellElementWalkerTest::concat);
+        Assert.assertEquals(2 * size, actual.stream().mapToInt(Integer::intValue).sum());
+        Assert.assertTrue(actual.stream().filter(x -> x > 0).count() > 1);
+    }
+
+    @Test
+    public void testWalkDoesNotSplitOverriddenContainers() {
+        int size = ParallelAssetAdministrationShellElementWalker.SPLIT_THRESHOLD * 4;
+        List<List<Integer>> actual = new ParallelAssetAdministrationShellElementWalker(new ForkJoinPool(4)).walk(
+                createLargeEnvironment(size),
+                ContainerCounter::new,
+                x -> List.of(List.of(x.properties, x.submodels, x.collections)),
+                ParallelAssetAdministrationShellElementWalkerTest::concat);
+        Assert.assertEquals(2 * size, actual.stream().mapToInt(x -> x.get(0)).sum());
+        Assert.assertEquals(1, actual.stream().mapToInt(x -> x.get(1)).sum());
+        Assert.assertEquals(1, actual.stream().mapToInt(x -> x.get(2)).sum());
+    }
+
+    @Test
+    public void testWalkEmpty() {
+        AssetAdministrationShellEnvironment environment = new DefaultAssetAdministrationShellEnvironment();
+        List<String> result = new ParallelAssetAdministrationShellElementWalker().walk(
+                environment,
+                Counter::new,
+                x -> new ArrayList<>(),
+                (x, y) -> {
+                    x.addAll(y);
+                    return x;
+                });
+        Assert.assertTrue(result.isEmpty());
+    }
+}
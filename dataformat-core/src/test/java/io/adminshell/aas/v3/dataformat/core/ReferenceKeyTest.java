@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.ReferenceKey;
+import io.adminshell.aas.v3.dataformat.core.util.ReferenceMap;
+import io.adminshell.aas.v3.dataformat.core.util.ReferenceSet;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.impl.DefaultReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReferenceKeyTest {
+
+    private static final List<Reference> REFERENCES = List.of(
+            AasUtils.parseReference("(Submodel)[Iri]http://example.org/submodel"),
+            AasUtils.parseReference("(Submodel)[Iri]http://example.org/submodel,(Property)[IdShort]foo"),
+            AasUtils.parseReference("(Submodel)[Iri]http://example.org/submodel,(SubmodelElement)[IdShort]foo"),
+            AasUtils.parseReference("(Submodel)[Iri]http://example.org/other,(Property)[IdShort]foo"),
+            AasUtils.parseReference("(AssetAdministrationShell)[Iri]http://example.org/aas,(Submodel)[Iri]http://example.org/submodel,(Property)[IdShort]foo"),
+            AasUtils.parseReference("(Submodel)[Iri]http://example.org/submodel,(Property)[IdShort]bar"),
+            AasUtils.parseReference("(Property)[IdShort]foo"),
+            AasUtils.parseReference("(ConceptDescription)[Irdi]0173-1#02-AAO677#002"),
+            AasUtils.parseReference("(GlobalReference)[Irdi]0173-1#02-AAO677#002"));
+
+    @Test
+    public void testEqualsMatchesSameAs() {
+        for (Reference ref1 : REFERENCES) {
+            for (Reference ref2 : REFERENCES) {
+                boolean sameAs = AasUtils.sameAs(ref1, ref2);
+                Assert.assertEquals(AasUtils.asString(ref1) + " / " + AasUtils.asString(ref2),
+                        sameAs,
+                        ReferenceKey.of(ref1).equals(ReferenceKey.of(ref2)));
+                if (sameAs) {
+                    Assert.assertEquals(ReferenceKey.of(ref1).hashCode(), ReferenceKey.of(ref2).hashCode());
+                }
+            }
+        }
+        Assert.assertEquals(ReferenceKey.of(null), ReferenceKey.of(new DefaultReference()));
+    }
+
+    @Test
+    public void testReferenceMap() {
+        Map<Reference, String> map = new ReferenceMap<>();
+        map.put(REFERENCES.get(1), "foo");
+        map.put(REFERENCES.get(5), "bar");
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals("foo", map.get(REFERENCES.get(2)));
+        Assert.assertEquals("foo", map.get(REFERENCES.get(4)));
+        Assert.assertNull(map.get(REFERENCES.get(3)));
+        Assert.assertEquals("foo", map.put(REFERENCES.get(4), "baz"));
+        Assert.assertEquals(2, map.size());
+        Assert.assertSame(REFERENCES.get(1), map.keySet().iterator().next());
+        Assert.assertEquals("baz", map.remove(REFERENCES.get(1)));
+        Assert.assertFalse(map.containsKey(REFERENCES.get(2)));
+    }
+
+    @Test
+    public void testReferenceSet() {
+        Set<Reference> set = new ReferenceSet(REFERENCES.subList(0, 3));
+        Assert.assertEquals(2, set.size());
+        Assert.assertTrue(set.contains(REFERENCES.get(4)));
+        Assert.assertFalse(set.contains(REFERENCES.get(3)));
+        Assert.assertFalse(set.add(REFERENCES.get(4)));
+        Assert.assertTrue(set.remove(REFERENCES.get(2)));
+        Assert.assertEquals(1, set.size());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnumNames;
+import io.adminshell.aas.v3.model.Key;
+import io.adminshell.aas.v3.model.KeyElements;
+import io.adminshell.aas.v3.model.KeyType;
+import io.adminshell.aas.v3.model.Reference;
+import io.adminshell.aas.v3.model.impl.DefaultKey;
+import io.adminshell.aas.v3.model.impl.DefaultReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the hand-written reference parser in AasUtils against the regular
+ * expression based implementation it replaces.
+ */
+public class ReferenceParsingTest {
+
+    private static final Pattern KEY_REGEX = Pattern.compile("\\((?<type>\\w+)\\)\\[(?<idtype>\\w+)\\](?<value>.*)");
+    private static final List<String> FRAGMENTS = Arrays.asList(
+            "(", ")", "[", "]", ",", " ", "_", "1", "x", "\n", "\r", "\u2028", "()", "[]",
+            "(Submodel)", "(Property)", "(Unknown)", "[IdShort]", "[Iri]", "[Unknown]",
+            "http://example.org/foo", "(Submodel)[Iri]", "(Property)[IdShort]");
+    private static final int ITERATIONS = 20000;
+
+    private static Key parseKeyWithRegex(String value) {
+        Matcher matcher = KEY_REGEX.matcher(value);
+        if (matcher.find()) {
+            return new DefaultKey.Builder()
+                    .type(EnumNames.of(KeyElements.class).valueOf(matcher.group("type")))
+                    .idType(EnumNames.of(KeyType.class).valueOf(matcher.group("idtype")))
+                    .value(matcher.group("value"))
+                    .build();
+        }
+        return null;
+    }
+
+    private static List<Key> parseReferenceWithRegex(String value) {
+        return Stream.of(value.split(",")).map(x -> parseKeyWithRegex(x)).collect(Collectors.toList());
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder result = new StringBuilder();
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            result.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+        }
+        return result.toString();
+    }
+
+    private static String randomValidKey(Random random) {
+        KeyElements[] types = KeyElements.values();
+        KeyType[] idTypes = KeyType.values();
+        return String.format("(%s)[%s]%s",
+                EnumNames.serialize(types[random.nextInt(types.length)]),
+                EnumNames.serialize(idTypes[random.nextInt(idTypes.length)]),
+                randomString(random).replace(",", ""));
+    }
+
+    private static Object parseKeyOrException(String value, boolean useRegex) {
+        try {
+            return useRegex ? parseKeyWithRegex(value) : AasUtils.parseKey(value);
+        } catch (IllegalArgumentException ex) {
+            return IllegalArgumentException.class;
+        }
+    }
+
+    private static Object parseReferenceOrException(String value, boolean useRegex) {
+        try {
+            if (useRegex) {
+                return value == null || value.isBlank() ? null : parseReferenceWithRegex(value);
+            }
+            Reference reference = AasUtils.parseReference(value);
+            return reference == null ? null : reference.getKeys();
+        } catch (IllegalArgumentException ex) {
+            return IllegalArgumentException.class;
+        }
+    }
+
+    @Test
+    public void testParseKeyMatchesRegex() {
+        Random random = new Random(42);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String value = random.nextBoolean()
+                    ? randomString(random)
+                    : randomString(random) + randomValidKey(random) + randomString(random);
+            Assert.assertEquals("input: " + value, parseKeyOrException(value, true), parseKeyOrException(value, false));
+        }
+    }
+
+    @Test
+    public void testParseReferenceMatchesRegex() {
+        Random random = new Random(42);
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder value = new StringBuilder();
+            int count = random.nextInt(4);
+            for (int j = 0; j < count; j++) {
+                value.append(random.nextBoolean() ? randomValidKey(random) : randomString(random));
+                if (random.nextInt(3) > 0) {
+                    value.append(',');
+                }
+            }
+            Assert.assertEquals("input: " + value, parseReferenceOrException(value.toString(), true), parseReferenceOrException(value.toString(), false));
+        }
+    }
+
+    @Test
+    public void testAsStringRoundTrip() {
+        Reference reference = new DefaultReference.Builder()
+                .key(new DefaultKey.Builder()
+                        .type(KeyElements.SUBMODEL)
+                        .idType(KeyType.IRI)
+                        .value("http://example.org/submodel")
+                        .build())
+                .key(new DefaultKey.Builder()
+                        .type(KeyElements.SUBMODEL_ELEMENT_COLLECTION)
+                        .idType(KeyType.ID_SHORT)
+                        .value("collection")
+                        .build())
+                .build();
+        String value = AasUtils.asString(reference);
+        Assert.assertEquals("(Submodel)[Iri]http://example.org/submodel,(SubmodelElementCollection)[IdShort]collection", value);
+        Assert.assertEquals(reference.getKeys(), AasUtils.parseReference(value).getKeys());
+    }
+
+    @Test
+    public void testParseReferenceBlank() {
+        Assert.assertNull(AasUtils.parseReference(null));
+        Assert.assertNull(AasUtils.parseReference(" "));
+    }
+}
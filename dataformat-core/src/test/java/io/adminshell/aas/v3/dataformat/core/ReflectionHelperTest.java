@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.model.DataElement;
+import io.adminshell.aas.v3.model.Property;
+import io.adminshell.aas.v3.model.Referable;
+import io.adminshell.aas.v3.model.SubmodelElement;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReflectionHelperTest {
+
+    @Test
+    public void testDefaultImplementation() {
+        Assert.assertTrue(ReflectionHelper.isDefaultImplementation(DefaultProperty.class));
+        Assert.assertFalse(ReflectionHelper.isDefaultImplementation(Property.class));
+        Assert.assertTrue(ReflectionHelper.hasDefaultImplementation(Property.class));
+        Assert.assertEquals(DefaultProperty.class, ReflectionHelper.getDefaultImplementation(Property.class));
+        Assert.assertEquals(DefaultProperty.class, ReflectionHelper.getDefaultImplementation(DefaultProperty.class));
+        Assert.assertNull(ReflectionHelper.getDefaultImplementation(String.class));
+    }
+
+    @Test
+    public void testModelType() {
+        Assert.assertEquals("Property", ReflectionHelper.getModelType(Property.class));
+        Assert.assertEquals("Property", ReflectionHelper.getModelType(DefaultProperty.class));
+        Assert.assertEquals("Property", ReflectionHelper.getModelType(CustomSubProperty.class));
+        Assert.assertEquals(Property.class, ReflectionHelper.getMostSpecificTypeWithModelType(DefaultProperty.class));
+        Assert.assertNull(ReflectionHelper.getModelType(String.class));
+        Assert.assertNull(ReflectionHelper.getMostSpecificTypeWithModelType(null));
+    }
+
+    @Test
+    public void testSuperTypes() {
+        Assert.assertEquals(Set.of(DataElement.class), ReflectionHelper.getSuperTypes(Property.class, false));
+        Set<Class<?>> superTypes = ReflectionHelper.getSuperTypes(Property.class, true);
+        Assert.assertTrue(superTypes.contains(DataElement.class));
+        Assert.assertTrue(superTypes.contains(SubmodelElement.class));
+        Assert.assertTrue(superTypes.contains(Referable.class));
+        Assert.assertTrue(ReflectionHelper.getSuperTypes(String.class, true).isEmpty());
+    }
+}
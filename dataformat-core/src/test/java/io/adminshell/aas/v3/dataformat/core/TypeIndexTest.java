@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TypeIndexTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndLoad() throws IOException, ClassNotFoundException {
+        File folder = tempFolder.newFolder();
+        Path file = folder.toPath().resolve(TypeIndex.RESOURCE_NAME);
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            TypeIndex.write(writer, Set.of(TypeIndex.SECTION_MODEL));
+        }
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{folder.toURI().toURL()}, getClass().getClassLoader())) {
+            TypeIndex index = TypeIndex.load(classLoader);
+            Assert.assertTrue(index.hasSection(TypeIndex.SECTION_MODEL));
+            Assert.assertEquals(ReflectionHelper.TYPES_WITH_MODEL_TYPE, index.getTypesWithModelType());
+            Assert.assertEquals(ReflectionHelper.SUBTYPES, index.getSubtypes());
+            Assert.assertEquals(new HashSet<>(ReflectionHelper.ENUMS), new HashSet<>(index.getEnums()));
+            Assert.assertEquals(ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION, index.getInterfacesWithoutDefaultImplementation());
+            Assert.assertEquals(toImplementationNames(ReflectionHelper.DEFAULT_IMPLEMENTATIONS), toImplementationNames(index.getDefaultImplementations()));
+        }
+    }
+
+    @Test
+    public void testModelUpToDate() throws IOException {
+        StringWriter index = new StringWriter();
+        TypeIndex.write(index, Set.of(TypeIndex.SECTION_MODEL));
+        Assert.assertTrue(load(index.toString()).isModelUpToDate());
+    }
+
+    @Test
+    public void testModelOutOfDate() throws IOException {
+        StringWriter writer = new StringWriter();
+        TypeIndex.write(writer, Set.of(TypeIndex.SECTION_MODEL));
+        String index = writer.toString();
+        Assert.assertFalse(load(index.replaceAll("(?m)^model\\.version .*$", "model.version 0.0.0")).isModelUpToDate());
+        Assert.assertFalse(load(index.replaceAll("(?m)^model\\.version .*$", "")).isModelUpToDate());
+    }
+
+    @Test
+    public void testReflectionHelperUsesIndex() {
+        Assert.assertTrue(ReflectionHelper.isIndexed(TypeIndex.SECTION_MODEL));
+        ReflectionHelper.ModelInfo scanned = ReflectionHelper.scanModelInfo();
+        try {
+            Assert.assertEquals(scanned.typesWithModelType, ReflectionHelper.TYPES_WITH_MODEL_TYPE);
+            Assert.assertEquals(scanned.subtypes, ReflectionHelper.SUBTYPES);
+            Assert.assertEquals(new HashSet<>(scanned.enums), new HashSet<>(ReflectionHelper.ENUMS));
+            Assert.assertEquals(toImplementationNames(scanned.defaultImplementations), toImplementationNames(ReflectionHelper.DEFAULT_IMPLEMENTATIONS));
+            Assert.assertEquals(ReflectionHelper.getInterfacesWithoutDefaultImplementation(scanned.modelScan), ReflectionHelper.INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION);
+        } finally {
+            scanned.modelScan.close();
+        }
+    }
+
+    @Test
+    public void testLoadDisabled() {
+        System.setProperty(TypeIndex.DISABLED_PROPERTY, Boolean.TRUE.toString());
+        try {
+            TypeIndex index = TypeIndex.load(getClass().getClassLoader());
+            Assert.assertFalse(index.hasSection(TypeIndex.SECTION_MODEL));
+        } finally {
+            System.clearProperty(TypeIndex.DISABLED_PROPERTY);
+        }
+    }
+
+    private TypeIndex load(String content) throws IOException {
+        File folder = tempFolder.newFolder();
+        Path file = folder.toPath().resolve(TypeIndex.RESOURCE_NAME);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        // only read the given index, not the ones generated for the modules on the classpath
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{folder.toURI().toURL()}, getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                return findResources(name);
+            }
+        }) {
+            TypeIndex result = TypeIndex.load(classLoader);
+            Assert.assertTrue(result.hasSection(TypeIndex.SECTION_MODEL));
+            return result;
+        }
+    }
+
+    private static Set<String> toImplementationNames(List<ReflectionHelper.ImplementationInfo> implementations) {
+        return implementations.stream()
+                .map(x -> x.getInterfaceType().getName() + "=" + x.getImplementationType().getName())
+                .collect(Collectors.toSet());
+    }
+}
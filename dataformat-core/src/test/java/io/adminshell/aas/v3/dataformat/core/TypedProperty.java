@@ -13,7 +13,9 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.adminshell.aas.v3.model;
+package io.adminshell.aas.v3.dataformat.core;
+
+import io.adminshell.aas.v3.model.Property;
 
 public interface TypedProperty extends Property {
     
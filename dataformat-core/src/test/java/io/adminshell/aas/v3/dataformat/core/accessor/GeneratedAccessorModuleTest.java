@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.core.accessor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import io.adminshell.aas.v3.dataformat.core.AASFull;
+import io.adminshell.aas.v3.model.Key;
+import io.adminshell.aas.v3.model.KeyElements;
+import io.adminshell.aas.v3.model.KeyType;
+import io.adminshell.aas.v3.model.impl.DefaultKey;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
+import java.util.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GeneratedAccessorModuleTest {
+
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+    private final ObjectMapper generatedMapper = new ObjectMapper().registerModule(new GeneratedAccessorModule());
+
+    @Test
+    public void testAccessorsGenerated() {
+        Assert.assertTrue(GeneratedAccessorModule.isAvailable());
+    }
+
+    @Test
+    public void testPropertyWritersReplaced() throws JsonMappingException {
+        BeanSerializer serializer = (BeanSerializer) generatedMapper.getSerializerProviderInstance().findValueSerializer(DefaultProperty.class);
+        Iterator<PropertyWriter> properties = serializer.properties();
+        Assert.assertTrue(properties.hasNext());
+        properties.forEachRemaining(x -> Assert.assertTrue(x instanceof GeneratedPropertyWriter));
+    }
+
+    @Test
+    public void testSerializationUnchanged() throws JsonProcessingException {
+        Assert.assertEquals(reflectiveMapper.writeValueAsString(AASFull.SUBMODEL_1), generatedMapper.writeValueAsString(AASFull.SUBMODEL_1));
+    }
+
+    @Test
+    public void testDeserialization() throws JsonProcessingException {
+        Key expected = new DefaultKey.Builder()
+                .type(KeyElements.SUBMODEL)
+                .idType(KeyType.IRI)
+                .value("http://example.org/submodel")
+                .build();
+        Assert.assertEquals(expected, generatedMapper.readValue(reflectiveMapper.writeValueAsString(expected), DefaultKey.class));
+    }
+}
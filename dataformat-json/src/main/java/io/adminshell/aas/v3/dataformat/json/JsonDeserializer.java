@@ -15,51 +15,143 @@
  */
 package io.adminshell.aas.v3.dataformat.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import io.adminshell.aas.v3.dataformat.DeserializationException;
 import io.adminshell.aas.v3.dataformat.Deserializer;
+import io.adminshell.aas.v3.dataformat.ValidatedEnvironment;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
+import io.adminshell.aas.v3.dataformat.core.accessor.GeneratedAccessorModule;
 import io.adminshell.aas.v3.dataformat.core.deserialization.EmbeddedDataSpecificationDeserializer;
 import io.adminshell.aas.v3.dataformat.core.deserialization.EnumDeserializer;
-import io.adminshell.aas.v3.dataformat.json.modeltype.ModelTypeProcessor;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.EmbeddedDataSpecification;
 import io.adminshell.aas.v3.model.Referable;
 
 /**
  * Class for deserializing/parsing AAS JSON documents.
+ *
+ * Instances using the same custom implementations share one mapper.
+ *
+ * Instances created via JsonDeserializer.Builder are immutable, i.e. calling
+ * useImplementation(...) on them throws an UnsupportedOperationException.
  */
 public class JsonDeserializer implements Deserializer, ReferableDeserializer {
 
+    /**
+     * Readers shared per set of custom implementations. The cache is attached
+     * to a class whose class loader sees all custom implementations, see
+     * getCacheOwner(), so it does not keep any of their class loaders alive.
+     */
+    private static final ClassValue<Map<Map<Class<?>, Class<?>>, ObjectReader>> SHARED_READERS = new ClassValue<>() {
+        @Override
+        protected Map<Map<Class<?>, Class<?>>, ObjectReader> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * Mapper of subclasses, built via buildMapper(). Instances of this class
+     * use a configured, possibly shared reader instead and leave this null.
+     */
     protected JsonMapper mapper;
+    private volatile ObjectReader configuredReader;
     protected SimpleAbstractTypeResolver typeResolver;
+    private final Map<Class<?>, Class<?>> customImplementations = new LinkedHashMap<>();
+    private final boolean immutable;
+    private JsonSchemaValidator schemaValidator;
     protected static Map<Class<?>, com.fasterxml.jackson.databind.JsonDeserializer> customDeserializers = Map.of(
             EmbeddedDataSpecification.class, new EmbeddedDataSpecificationDeserializer());
 
     public JsonDeserializer() {
+        this(Map.of(), false);
+    }
+
+    private JsonDeserializer(Map<Class<?>, Class<?>> customImplementations, boolean immutable) {
+        this.customImplementations.putAll(customImplementations);
+        this.immutable = immutable;
         initTypeResolver();
-        buildMapper();
+        initMapper();
+    }
+
+    private void initMapper() {
+        if (getClass() != JsonDeserializer.class) {
+            buildMapper();
+            return;
+        }
+        Class<?> owner = getCacheOwner();
+        configuredReader = owner == null
+                ? createMapper().reader()
+                : SHARED_READERS.get(owner).computeIfAbsent(Map.copyOf(customImplementations), x -> createMapper().reader());
+    }
+
+    /**
+     * Returns the class to attach the shared reader to. This is the first
+     * custom implementation class (or this class if there is none), provided
+     * that its class loader sees all other classes of the configuration.
+     *
+     * @return the class to attach the shared reader to or null if the reader
+     * must not be shared
+     */
+    private Class<?> getCacheOwner() {
+        if (customImplementations.isEmpty()) {
+            return JsonDeserializer.class;
+        }
+        Class<?> owner = customImplementations.values().iterator().next();
+        return customImplementations.entrySet().stream()
+                .allMatch(x -> isVisible(x.getKey(), owner.getClassLoader()) && isVisible(x.getValue(), owner.getClassLoader()))
+                ? owner
+                : null;
+    }
+
+    private static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
     }
 
     protected void buildMapper() {
-        mapper = JsonMapper.builder()
+        mapper = createMapper();
+    }
+
+    /**
+     * Returns the reader to use for deserialization
+     *
+     * @return the shared reader or a reader of the mapper built by a subclass
+     */
+    ObjectReader reader() {
+        return mapper != null
+                ? mapper.reader()
+                : configuredReader;
+    }
+
+    private JsonMapper createMapper() {
+        JsonMapper result = JsonMapper.builder()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
                 .annotationIntrospector(new ReflectionAnnotationIntrospector())
                 .addModule(buildEnumModule())
                 .addModule(buildImplementationModule())
                 .addModule(buildCustomDeserializerModule())
+                .addModule(new GeneratedAccessorModule())
                 .build();
-        ReflectionHelper.JSON_MIXINS.entrySet().forEach(x -> mapper.addMixIn(x.getKey(), x.getValue()));
+        ReflectionHelper.JSON_MIXINS.entrySet().forEach(x -> result.addMixIn(x.getKey(), x.getValue()));
+        return result;
     }
 
     protected SimpleModule buildCustomDeserializerModule() {
@@ -68,12 +160,15 @@ public class JsonDeserializer implements Deserializer, ReferableDeserializer {
         return module;
     }
 
+    @SuppressWarnings("unchecked")
     private void initTypeResolver() {
+        // always create a new resolver as the previous one may be in use by a shared mapper
         typeResolver = new SimpleAbstractTypeResolver();
         ReflectionHelper.DEFAULT_IMPLEMENTATIONS
                 .stream()
                 .filter(x -> !customDeserializers.containsKey(x.getInterfaceType()))
                 .forEach(x -> typeResolver.addMapping(x.getInterfaceType(), x.getImplementationType()));
+        customImplementations.forEach((x, y) -> typeResolver.addMapping((Class<Object>) x, y));
     }
 
     protected SimpleModule buildEnumModule() {
@@ -91,22 +186,97 @@ public class JsonDeserializer implements Deserializer, ReferableDeserializer {
     @Override
     public AssetAdministrationShellEnvironment read(String value) throws DeserializationException {
         try {
-            return mapper.treeToValue(ModelTypeProcessor.preprocess(value), AssetAdministrationShellEnvironment.class);
+            return reader().forType(AssetAdministrationShellEnvironment.class).readValue(value);
         } catch (JsonProcessingException ex) {
             throw new DeserializationException("error deserializing AssetAdministrationShellEnvironment", ex);
         }
     }
 
+    @Override
+    public AssetAdministrationShellEnvironment read(Reader reader) throws DeserializationException {
+        try {
+            return reader().forType(AssetAdministrationShellEnvironment.class).readValue(reader);
+        } catch (IOException ex) {
+            throw new DeserializationException("error deserializing AssetAdministrationShellEnvironment", ex);
+        }
+    }
+
+    /**
+     * Deserializes an AssetAdministrationShellEnvironment and validates it
+     * against the AAS JSON schema while parsing the input only once.
+     *
+     * @param value serialized AssetAdministrationShellEnvironment
+     * @return the deserialized environment together with the schema
+     * validation messages
+     * @throws DeserializationException if the input is not valid JSON or can
+     * not be bound to an AssetAdministrationShellEnvironment
+     */
+    public ValidatedEnvironment readValidated(String value) throws DeserializationException {
+        try {
+            return readValidated(reader().readTree(value));
+        } catch (JsonProcessingException ex) {
+            throw new DeserializationException("error deserializing AssetAdministrationShellEnvironment", ex);
+        }
+    }
+
+    /**
+     * Deserializes an AssetAdministrationShellEnvironment and validates it
+     * against the AAS JSON schema while parsing the input only once.
+     *
+     * @param reader reader providing the serialized
+     * AssetAdministrationShellEnvironment
+     * @return the deserialized environment together with the schema
+     * validation messages
+     * @throws DeserializationException if the input is not valid JSON or can
+     * not be bound to an AssetAdministrationShellEnvironment
+     */
+    public ValidatedEnvironment readValidated(Reader reader) throws DeserializationException {
+        try {
+            return readValidated(reader().readTree(reader));
+        } catch (IOException ex) {
+            throw new DeserializationException("error deserializing AssetAdministrationShellEnvironment", ex);
+        }
+    }
+
+    private ValidatedEnvironment readValidated(JsonNode node) throws DeserializationException {
+        // the tree is validated and bound directly, the input is not parsed again
+        Set<String> messages = getSchemaValidator().validateSchema(node);
+        try {
+            return new ValidatedEnvironment(reader().treeToValue(node, AssetAdministrationShellEnvironment.class), messages);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            throw new DeserializationException("error deserializing AssetAdministrationShellEnvironment", ex);
+        }
+    }
+
+    private synchronized JsonSchemaValidator getSchemaValidator() {
+        if (schemaValidator == null) {
+            schemaValidator = new JsonSchemaValidator();
+        }
+        return schemaValidator;
+    }
+
+    /**
+     * See Deserializer.useImplementation(...). Not supported by immutable
+     * instances.
+     *
+     * @throws UnsupportedOperationException if this instance has been created
+     * via JsonDeserializer.Builder, use
+     * JsonDeserializer.Builder.useImplementation(...) instead
+     */
     @Override
     public <T> void useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
-        typeResolver.addMapping(aasInterface, implementation);
-        buildMapper();
+        if (immutable) {
+            throw new UnsupportedOperationException("deserializer is immutable, use JsonDeserializer.Builder.useImplementation(...) instead");
+        }
+        customImplementations.put(aasInterface, implementation);
+        initTypeResolver();
+        initMapper();
     }
 
     @Override
     public <T extends Referable> T readReferable(String referable, Class<T> outputClass) throws DeserializationException {
         try {
-            return mapper.treeToValue(ModelTypeProcessor.preprocess(referable), outputClass);
+            return reader().forType(outputClass).readValue(referable);
         } catch (JsonProcessingException ex) {
             throw new DeserializationException("error deserializing Referable", ex);
         }
@@ -115,10 +285,38 @@ public class JsonDeserializer implements Deserializer, ReferableDeserializer {
     @Override
     public <T extends Referable> List<T> readReferables(String referables, Class<T> outputClass) throws DeserializationException {
         try {
-            String parsed = mapper.writeValueAsString(ModelTypeProcessor.preprocess(referables)) ;
-            return mapper.readValue(parsed,new TypeReference<List<T>>(){});
+            ObjectReader objectReader = reader();
+            return objectReader.forType(objectReader.getTypeFactory().constructCollectionType(List.class, outputClass)).readValue(referables);
         } catch (JsonProcessingException ex) {
             throw new DeserializationException("error deserializing list of Referable", ex);
         }
     }
+
+    /**
+     * Builder for immutable instances of JsonDeserializer
+     */
+    public static class Builder {
+
+        private final Map<Class<?>, Class<?>> customImplementations = new LinkedHashMap<>();
+
+        /**
+         * Defines a custom implementation to be used for deserialization
+         * instead of the default implementation, see
+         * Deserializer.useImplementation(...)
+         *
+         * @param <T> the type of the interface to replace
+         * @param aasInterface the class of the interface to replace
+         * @param implementation the class implementing the interface that
+         * should be used for deserialization.
+         * @return this builder
+         */
+        public <T> Builder useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
+            customImplementations.put(aasInterface, implementation);
+            return this;
+        }
+
+        public JsonDeserializer build() {
+            return new JsonDeserializer(customImplementations, true);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.adminshell.aas.v3.dataformat.DeserializationException;
+import io.adminshell.aas.v3.model.Asset;
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.Identifiable;
+import io.adminshell.aas.v3.model.Submodel;
+
+/**
+ * Pull-based reader for AAS JSON environments. Instead of materializing the
+ * whole AssetAdministrationShellEnvironment, the top-level identifiables
+ * (AssetAdministrationShell, Asset, Submodel and ConceptDescription) are
+ * parsed and returned one at a time in document order, so only one of them
+ * is held in memory at once.
+ *
+ * Elements are bound with the reader of a JsonDeserializer, i.e. custom
+ * implementations registered via JsonDeserializer.useImplementation(...) are
+ * respected. As Iterator does not allow checked exceptions, errors while
+ * parsing are thrown as UncheckedIOException.
+ */
+public class JsonEnvironmentReader implements Iterator<Identifiable>, Closeable {
+
+    private static final Map<String, Class<? extends Identifiable>> TYPES = Map.of(
+            "assetAdministrationShells", AssetAdministrationShell.class,
+            "assets", Asset.class,
+            "submodels", Submodel.class,
+            "conceptDescriptions", ConceptDescription.class);
+
+    private final ObjectReader objectReader;
+    private final JsonParser parser;
+    private Class<? extends Identifiable> currentType;
+    private Identifiable next;
+    private boolean finished;
+
+    public JsonEnvironmentReader(Reader reader) throws DeserializationException {
+        this(new JsonDeserializer(), reader);
+    }
+
+    public JsonEnvironmentReader(InputStream src) throws DeserializationException {
+        this(new JsonDeserializer(), src);
+    }
+
+    public JsonEnvironmentReader(JsonDeserializer deserializer, Reader reader) throws DeserializationException {
+        this.objectReader = deserializer.reader();
+        try {
+            this.parser = objectReader.createParser(reader);
+        } catch (IOException ex) {
+            throw new DeserializationException("error creating JSON parser", ex);
+        }
+        readStart();
+    }
+
+    public JsonEnvironmentReader(JsonDeserializer deserializer, InputStream src) throws DeserializationException {
+        this.objectReader = deserializer.reader();
+        try {
+            this.parser = objectReader.createParser(src);
+        } catch (IOException ex) {
+            throw new DeserializationException("error creating JSON parser", ex);
+        }
+        readStart();
+    }
+
+    private void readStart() throws DeserializationException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonMappingException(parser, "AssetAdministrationShellEnvironment must be a JSON object");
+            }
+        } catch (IOException ex) {
+            throw new DeserializationException("error deserializing AssetAdministrationShellEnvironment", ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readNext();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("error deserializing AssetAdministrationShellEnvironment", ex);
+            }
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Identifiable next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Identifiable result = next;
+        next = null;
+        return result;
+    }
+
+    private Identifiable readNext() throws IOException {
+        while (true) {
+            if (currentType != null) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY) {
+                    currentType = null;
+                } else if (token == JsonToken.START_OBJECT) {
+                    return objectReader.readValue(parser, currentType);
+                } else if (token != JsonToken.VALUE_NULL) {
+                    throw new JsonMappingException(parser, String.format("unexpected token %s in array of %s", token, currentType.getSimpleName()));
+                }
+                continue;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_OBJECT) {
+                return null;
+            }
+            if (token != JsonToken.FIELD_NAME) {
+                throw new JsonMappingException(parser, String.format("unexpected token %s in AssetAdministrationShellEnvironment", token));
+            }
+            Class<? extends Identifiable> type = TYPES.get(parser.currentName());
+            token = parser.nextToken();
+            if (type == null) {
+                parser.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                currentType = type;
+            } else if (token == JsonToken.START_OBJECT) {
+                return objectReader.readValue(parser, type);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -24,20 +24,20 @@ import com.networknt.schema.SpecVersionDetector;
 import com.networknt.schema.ValidationMessage;
 import io.adminshell.aas.v3.dataformat.SchemaValidator;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URISyntaxException;
+import java.io.InputStream;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Class for validating a serialized instance of
- * AssetAdministrationShellEnvironment against a json-schema.
+ * AssetAdministrationShellEnvironment against a json-schema. The default
+ * schema is loaded and compiled only once and shared between all instances.
  */
 public class JsonSchemaValidator implements SchemaValidator {
 
     private static final String SCHEMA = "/aas.json";
+    private static volatile JsonSchema defaultSchema;
     private final ObjectMapper mapper = new ObjectMapper();
 
     public JsonSchemaValidator() {
@@ -53,8 +53,38 @@ public class JsonSchemaValidator implements SchemaValidator {
     @Override
     public Set<String> validateSchema(String serialized) {
         try {
-            return validateSchema(serialized, loadDefaultSchema());
-        } catch (IOException | URISyntaxException e) {
+            return validateSchema(mapper.readTree(serialized));
+        } catch (JsonProcessingException e) {
+            return Set.of(e.getMessage());
+        }
+    }
+
+    /**
+     * validates against default schema
+     *
+     * @param src AssetAdministrationShellEnvironment, serialized as json. The
+     * stream is not closed.
+     * @return Set of messages to display validation results
+     */
+    public Set<String> validateSchema(InputStream src) {
+        try {
+            return validateSchema(mapper.readTree(src));
+        } catch (IOException e) {
+            return Set.of(e.getMessage());
+        }
+    }
+
+    /**
+     * validates against default schema
+     *
+     * @param node AssetAdministrationShellEnvironment, already parsed as json
+     * tree
+     * @return Set of messages to display validation results
+     */
+    public Set<String> validateSchema(JsonNode node) {
+        try {
+            return generalizeValidationMessagesAsStringSet(getDefaultSchema().validate(node));
+        } catch (IOException e) {
             return Set.of(e.getMessage());
         }
     }
@@ -70,9 +100,7 @@ public class JsonSchemaValidator implements SchemaValidator {
      */
     public Set<String> validateSchema(String serialized, String serializedSchema) {
         try {
-            JsonNode schemaRootNode = mapper.readTree(serializedSchema);
-            JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersionDetector.detect(schemaRootNode));
-            JsonSchema schema = factory.getSchema(schemaRootNode);
+            JsonSchema schema = compileSchema(mapper.readTree(serializedSchema));
             JsonNode node = mapper.readTree(serialized);
             Set<ValidationMessage> validationMessages = schema.validate(node);
             return generalizeValidationMessagesAsStringSet(validationMessages);
@@ -81,8 +109,32 @@ public class JsonSchemaValidator implements SchemaValidator {
         }
     }
 
-    private String loadDefaultSchema() throws IOException, URISyntaxException {
-        return new BufferedReader(new InputStreamReader(getClass().getResourceAsStream(SCHEMA))).lines().collect(Collectors.joining("\n"));
+    private JsonSchema getDefaultSchema() throws IOException {
+        JsonSchema result = defaultSchema;
+        if (result == null) {
+            synchronized (JsonSchemaValidator.class) {
+                result = defaultSchema;
+                if (result == null) {
+                    result = compileSchema(loadDefaultSchema());
+                    defaultSchema = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private JsonNode loadDefaultSchema() throws IOException {
+        try (InputStream src = getClass().getResourceAsStream(SCHEMA)) {
+            if (src == null) {
+                throw new IOException(String.format("schema '%s' not found on classpath", SCHEMA));
+            }
+            return mapper.readTree(src);
+        }
+    }
+
+    private static JsonSchema compileSchema(JsonNode schemaRootNode) {
+        JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersionDetector.detect(schemaRootNode));
+        return factory.getSchema(schemaRootNode);
     }
 
     private Set<String> generalizeValidationMessagesAsStringSet(Set<ValidationMessage> messages) {
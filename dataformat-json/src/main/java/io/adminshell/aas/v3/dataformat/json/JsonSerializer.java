@@ -16,6 +16,7 @@
 package io.adminshell.aas.v3.dataformat.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -23,39 +24,73 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
+import io.adminshell.aas.v3.dataformat.core.accessor.GeneratedAccessorModule;
 
 import io.adminshell.aas.v3.dataformat.SerializationException;
 import io.adminshell.aas.v3.dataformat.Serializer;
 import io.adminshell.aas.v3.dataformat.core.serialization.EnumSerializer;
-import io.adminshell.aas.v3.dataformat.json.modeltype.ModelTypeProcessor;
 import io.adminshell.aas.v3.dataformat.core.serialization.EmbeddedDataSpecificationSerializer;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.EmbeddedDataSpecification;
 import io.adminshell.aas.v3.model.Referable;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 /**
  * Class for serializing an instance of AssetAdministrationShellEnvironment or Referables to
- * JSON.
+ * JSON. All instances of this class share one mapper.
  */
 public class JsonSerializer implements Serializer, ReferableSerializer {
 
+    private static volatile ObjectWriter sharedWriter;
+    /**
+     * Mapper of subclasses, built via buildMapper(). Instances of this class
+     * use the shared writer instead and leave this null.
+     */
     protected JsonMapper mapper;
 
     public JsonSerializer() {
-        buildMapper();
+        if (getClass() != JsonSerializer.class) {
+            buildMapper();
+            return;
+        }
+        if (sharedWriter == null) {
+            synchronized (JsonSerializer.class) {
+                if (sharedWriter == null) {
+                    sharedWriter = createMapper().writer();
+                }
+            }
+        }
     }
 
     protected void buildMapper() {
-        mapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT)
+        mapper = createMapper();
+    }
+
+    /**
+     * Returns the writer to use for serialization
+     *
+     * @return the shared writer or a writer of the mapper built by a subclass
+     */
+    ObjectWriter writer() {
+        return mapper != null
+                ? mapper.writer()
+                : sharedWriter;
+    }
+
+    private JsonMapper createMapper() {
+        JsonMapper result = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT)
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
                 .serializationInclusion(JsonInclude.Include.NON_NULL)
                 .addModule(buildEnumModule())
                 .addModule(buildCustomSerializerModule())
                 .annotationIntrospector(new ReflectionAnnotationIntrospector())
+                .addModule(new GeneratedAccessorModule())
                 .build();
-        ReflectionHelper.JSON_MIXINS.entrySet().forEach(x -> mapper.addMixIn(x.getKey(), x.getValue()));
+        ReflectionHelper.JSON_MIXINS.entrySet().forEach(x -> result.addMixIn(x.getKey(), x.getValue()));
+        return result;
     }
 
     protected SimpleModule buildCustomSerializerModule() {
@@ -73,7 +108,18 @@ public class JsonSerializer implements Serializer, ReferableSerializer {
     @Override
     public String write(AssetAdministrationShellEnvironment aasEnvironment) throws SerializationException {
         try {
-            return mapper.writeValueAsString(ModelTypeProcessor.postprocess(mapper.valueToTree(aasEnvironment)));
+            return writer().writeValueAsString(aasEnvironment);
+        } catch (JsonProcessingException ex) {
+            throw new SerializationException("error serializing AssetAdministrationShellEnvironment", ex);
+        }
+    }
+
+    @Override
+    public void write(Writer writer, AssetAdministrationShellEnvironment aasEnvironment) throws IOException, SerializationException {
+        try {
+            writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(writer, aasEnvironment);
         } catch (JsonProcessingException ex) {
             throw new SerializationException("error serializing AssetAdministrationShellEnvironment", ex);
         }
@@ -82,7 +128,7 @@ public class JsonSerializer implements Serializer, ReferableSerializer {
     @Override
     public String write(Referable referable) throws SerializationException {
         try {
-            return mapper.writeValueAsString(ModelTypeProcessor.postprocess(mapper.valueToTree(referable)));
+            return writer().writeValueAsString(referable);
         } catch (JsonProcessingException ex) {
             throw new SerializationException("error serializing Referable", ex);
         }
@@ -94,9 +140,9 @@ public class JsonSerializer implements Serializer, ReferableSerializer {
             return null;
         }
         try {
-            ObjectWriter objectWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, referables.get(0).getClass()));
-            String json = objectWriter.writeValueAsString(referables);
-            return mapper.writeValueAsString(ModelTypeProcessor.postprocess(this.mapper.readTree(json)));
+            ObjectWriter objectWriter = writer();
+            objectWriter = objectWriter.forType(objectWriter.getTypeFactory().constructCollectionType(List.class, referables.get(0).getClass()));
+            return objectWriter.writeValueAsString(referables);
         } catch (JsonProcessingException ex) {
             throw new SerializationException("error serializing list of Referables", ex);
         }
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
+import io.adminshell.aas.v3.dataformat.json.modeltype.ModelTypeResolverBuilder;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,7 +40,8 @@ import java.util.stream.Collectors;
  * <li> to all interfaces defined in the AAS model:
  * <ul>
  * <li> @JsonTypeName([interface name])
- * <li> @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "modelType")
+ * <li> @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "modelType") with
+ * the type name nested as "modelType": { "name": [interface name] }
  * <li> @JsonSubTypes({
  *
  * \@Type(value = [sub-interface].class, name = "[sub-interface name]"), ...})
@@ -71,7 +73,7 @@ public class ReflectionAnnotationIntrospector extends JacksonAnnotationIntrospec
     public TypeResolverBuilder<?> findTypeResolver(MapperConfig<?> config, AnnotatedClass ac, JavaType baseType) {
         String modelType = ReflectionHelper.getModelType(ac.getRawType());
         if (modelType != null) {
-            TypeResolverBuilder<?> result = _constructStdTypeResolverBuilder();
+            TypeResolverBuilder<?> result = new ModelTypeResolverBuilder();
             result = result.init(JsonTypeInfo.Id.NAME, null);
             result.inclusion(JsonTypeInfo.As.PROPERTY);
             result.typeProperty(MODEL_TYPE_PROPERTY);
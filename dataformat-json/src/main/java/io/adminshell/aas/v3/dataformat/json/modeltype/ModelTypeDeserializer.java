@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.json.modeltype;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+
+/**
+ * Type deserializer that reads the AAS type information in its nested form
+ * directly from the token stream, i.e.
+ * <pre>
+ * "modelType": {
+ *      "name": "Foo"
+ * }
+ * </pre> The flat form "modelType": "Foo" is accepted as well. This makes
+ * unwrapping the type information via ModelTypeProcessor.preprocess(...) on a
+ * JsonNode tree obsolete. Properties preceding the modelType property are
+ * buffered, all others are streamed.
+ */
+public class ModelTypeDeserializer extends AsPropertyTypeDeserializer {
+
+    private static final long serialVersionUID = 1L;
+    private static final String MODEL_TYPE_NAME = "name";
+
+    public ModelTypeDeserializer(AsPropertyTypeDeserializer src) {
+        super(src, null);
+    }
+
+    protected ModelTypeDeserializer(ModelTypeDeserializer src, BeanProperty property) {
+        super(src, property);
+    }
+
+    @Override
+    public TypeDeserializer forProperty(BeanProperty property) {
+        return (property == _property) ? this : new ModelTypeDeserializer(this, property);
+    }
+
+    @Override
+    public Object deserializeTypedFromObject(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            return _deserializeTypedUsingDefaultImpl(parser, context, null);
+        }
+        TokenBuffer buffer = null;
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (name.equals(_typePropertyName)) {
+                return deserializeTypedForId(parser, context, buffer, readTypeId(parser));
+            }
+            if (buffer == null) {
+                buffer = new TokenBuffer(parser, context);
+            }
+            buffer.writeFieldName(name);
+            buffer.copyCurrentStructure(parser);
+        }
+        return _deserializeTypedUsingDefaultImpl(parser, context, buffer);
+    }
+
+    private Object deserializeTypedForId(JsonParser parser, DeserializationContext context, TokenBuffer buffer, String typeId) throws IOException {
+        JsonDeserializer<Object> deserializer = _findDeserializer(context, typeId);
+        if (_typeIdVisible) {
+            if (buffer == null) {
+                buffer = new TokenBuffer(parser, context);
+            }
+            buffer.writeFieldName(_typePropertyName);
+            buffer.writeString(typeId);
+        }
+        if (buffer != null) {
+            parser.clearCurrentToken();
+            parser = JsonParserSequence.createFlattened(false, buffer.asParser(parser), parser);
+        }
+        parser.nextToken();
+        return deserializer.deserialize(parser, context);
+    }
+
+    private String readTypeId(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonMappingException(parser,
+                    String.format("property '%s' must be an object containing property '%s'", _typePropertyName, MODEL_TYPE_NAME));
+        }
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (MODEL_TYPE_NAME.equals(name) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                result = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (result == null) {
+            throw new JsonMappingException(parser,
+                    String.format("property '%s' must contain property '%s'", _typePropertyName, MODEL_TYPE_NAME));
+        }
+        return result;
+    }
+}
@@ -48,14 +48,24 @@ public class ModelTypeProcessor {
      * @throws JsonProcessingException parsing JSON fails
      */
     public static JsonNode preprocess(String json) throws JsonProcessingException {
-        JsonNode result = new ObjectMapper().readTree(json);
-        JsonTreeProcessor.traverse(result,
+        return preprocess(new ObjectMapper().readTree(json));
+    }
+
+    /**
+     * Unwrapps type information recursively on an already parsed JSON tree.
+     *
+     * @param node root node
+     * @return root node with unwrapped type information
+     * @see #preprocess(java.lang.String)
+     */
+    public static JsonNode preprocess(JsonNode node) {
+        JsonTreeProcessor.traverse(node,
                 x -> {
                     if (x.get(MODEL_TYPE) != null) {
                         x.replace(MODEL_TYPE, x.get(MODEL_TYPE).get(MODEL_TYPE_NAME));
                     }
                 });
-        return result;
+        return node;
     }
 
     /**
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.json.modeltype;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import java.util.Collection;
+
+/**
+ * Type resolver builder for the nested modelType property. Behaves like the
+ * default StdTypeResolverBuilder but creates type (de-)serializers that read
+ * and write the type information in its nested form.
+ */
+public class ModelTypeResolverBuilder extends StdTypeResolverBuilder {
+
+    @Override
+    public TypeSerializer buildTypeSerializer(SerializationConfig config, JavaType baseType, Collection<NamedType> subtypes) {
+        TypeSerializer result = super.buildTypeSerializer(config, baseType, subtypes);
+        if (result == null || result.getTypeInclusion() != JsonTypeInfo.As.PROPERTY) {
+            return result;
+        }
+        return new ModelTypeSerializer(result.getTypeIdResolver(), null, result.getPropertyName());
+    }
+
+    @Override
+    public TypeDeserializer buildTypeDeserializer(DeserializationConfig config, JavaType baseType, Collection<NamedType> subtypes) {
+        TypeDeserializer result = super.buildTypeDeserializer(config, baseType, subtypes);
+        if (!(result instanceof AsPropertyTypeDeserializer) || result.getTypeInclusion() != JsonTypeInfo.As.PROPERTY) {
+            return result;
+        }
+        return new ModelTypeDeserializer((AsPropertyTypeDeserializer) result);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.json.modeltype;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeSerializer;
+import java.io.IOException;
+
+/**
+ * Type serializer that writes the AAS type information in its nested form
+ * directly while serializing, i.e. instead of
+ * <pre>
+ * "modelType": "Foo"
+ * </pre> it writes
+ * <pre>
+ * "modelType": {
+ *      "name": "Foo"
+ * }
+ * </pre>
+ * This makes wrapping the type information via
+ * ModelTypeProcessor.postprocess(...) on a JsonNode tree obsolete.
+ */
+public class ModelTypeSerializer extends AsPropertyTypeSerializer {
+
+    private static final String MODEL_TYPE_NAME = "name";
+
+    public ModelTypeSerializer(TypeIdResolver idResolver, BeanProperty property, String propertyName) {
+        super(idResolver, property, propertyName);
+    }
+
+    @Override
+    public ModelTypeSerializer forProperty(BeanProperty property) {
+        return (_property == property) ? this : new ModelTypeSerializer(_idResolver, property, _typePropertyName);
+    }
+
+    @Override
+    public WritableTypeId writeTypePrefix(JsonGenerator generator, WritableTypeId typeId) throws IOException {
+        _generateTypeId(typeId);
+        if (typeId.id == null || typeId.valueShape != JsonToken.START_OBJECT) {
+            return super.writeTypePrefix(generator, typeId);
+        }
+        typeId.wrapperWritten = false;
+        generator.writeStartObject(typeId.forValue);
+        generator.writeObjectFieldStart(_typePropertyName);
+        generator.writeStringField(MODEL_TYPE_NAME, String.valueOf(typeId.id));
+        generator.writeEndObject();
+        return typeId;
+    }
+}
@@ -16,6 +16,8 @@
 package io.adminshell.aas.v3.dataformat.json;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -42,6 +44,12 @@ public class JsonDeserializerTest {
         new JsonDeserializer().read(JsonSerializerTest.AASFULL_FILE);
     }
 
+    @Test
+    public void testReadFromPath() throws Exception {
+        AssetAdministrationShellEnvironment env = new JsonDeserializer().read(JsonSerializerTest.AASFULL_FILE.toPath());
+        assertEquals(AASFull.ENVIRONMENT, env);
+    }
+
     @Test
     public void testSimpleExample() throws Exception {
         AssetAdministrationShellEnvironment env = new JsonDeserializer().read(JsonSerializerTest.AASSIMPLE_FILE);
@@ -69,6 +77,35 @@ public class JsonDeserializerTest {
         checkImplementationClasses(environment, CustomSubmodel2.class, CustomProperty.class);
     }
 
+    @Test
+    public void testMapperIsShared() {
+        assertSame(new JsonDeserializer().reader(), new JsonDeserializer().reader());
+        assertSame(new JsonSerializer().writer(), new JsonSerializer().writer());
+        assertSame(
+                new JsonDeserializer.Builder().useImplementation(Submodel.class, CustomSubmodel.class).build().reader(),
+                new JsonDeserializer.Builder().useImplementation(Submodel.class, CustomSubmodel.class).build().reader());
+    }
+
+    @Test
+    public void testUseImplementationDoesNotAffectOtherInstances() throws Exception {
+        String json = new JsonSerializer().write(AASSimple.ENVIRONMENT);
+        Deserializer deserializer = new JsonDeserializer();
+        deserializer.useImplementation(Submodel.class, CustomSubmodel.class);
+        checkImplementationClasses(deserializer.read(json), CustomSubmodel.class, DefaultProperty.class);
+        checkImplementationClasses(new JsonDeserializer().read(json), DefaultSubmodel.class, DefaultProperty.class);
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+        String json = new JsonSerializer().write(AASSimple.ENVIRONMENT);
+        JsonDeserializer deserializer = new JsonDeserializer.Builder()
+                .useImplementation(Submodel.class, CustomSubmodel.class)
+                .useImplementation(Property.class, CustomProperty.class)
+                .build();
+        checkImplementationClasses(deserializer.read(json), CustomSubmodel.class, CustomProperty.class);
+        assertThrows(UnsupportedOperationException.class, () -> deserializer.useImplementation(Submodel.class, CustomSubmodel2.class));
+    }
+
     private void checkImplementationClasses(AssetAdministrationShellEnvironment environment,
             Class<? extends Submodel> submodelImpl, Class<? extends Property> propertyImpl) {
         environment.getSubmodels().forEach(submodel -> {
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.adminshell.aas.v3.dataformat.core.AASFull;
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.Identifiable;
+import io.adminshell.aas.v3.model.Submodel;
+
+public class JsonEnvironmentReaderTest {
+
+    @Test
+    public void testReadFullExample() throws Exception {
+        List<Identifiable> expected = new ArrayList<>();
+        expected.addAll(AASFull.ENVIRONMENT.getAssetAdministrationShells());
+        expected.addAll(AASFull.ENVIRONMENT.getConceptDescriptions());
+        expected.addAll(AASFull.ENVIRONMENT.getSubmodels());
+        List<Identifiable> actual = new ArrayList<>();
+        try (InputStream src = new FileInputStream(JsonSerializerTest.AASFULL_FILE);
+                JsonEnvironmentReader reader = new JsonEnvironmentReader(src)) {
+            reader.forEachRemaining(actual::add);
+            assertFalse(reader.hasNext());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testReadEmpty() throws Exception {
+        try (InputStream src = new FileInputStream("src/test/resources/empty_aas.json");
+                JsonEnvironmentReader reader = new JsonEnvironmentReader(src)) {
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testReadTypes() throws Exception {
+        try (InputStream src = new FileInputStream(JsonSerializerTest.AASFULL_FILE);
+                JsonEnvironmentReader reader = new JsonEnvironmentReader(src)) {
+            int shells = 0, submodels = 0, conceptDescriptions = 0;
+            while (reader.hasNext()) {
+                Identifiable identifiable = reader.next();
+                if (identifiable instanceof AssetAdministrationShell) {
+                    shells++;
+                } else if (identifiable instanceof Submodel) {
+                    submodels++;
+                } else if (identifiable instanceof ConceptDescription) {
+                    conceptDescriptions++;
+                }
+            }
+            assertEquals(AASFull.ENVIRONMENT.getAssetAdministrationShells().size(), shells);
+            assertEquals(AASFull.ENVIRONMENT.getSubmodels().size(), submodels);
+            assertEquals(AASFull.ENVIRONMENT.getConceptDescriptions().size(), conceptDescriptions);
+        }
+    }
+}
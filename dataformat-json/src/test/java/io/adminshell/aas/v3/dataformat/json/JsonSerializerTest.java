@@ -20,6 +20,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.util.Set;
 
@@ -61,6 +62,13 @@ public class JsonSerializerTest {
         assertTrue(file.exists());
     }
 
+    @Test
+    public void testWriteToWriter() throws IOException, SerializationException, JSONException {
+        StringWriter writer = new StringWriter();
+        new JsonSerializer().write(writer, AASFull.ENVIRONMENT);
+        JSONAssert.assertEquals(new JsonSerializer().write(AASFull.ENVIRONMENT), writer.toString(), JSONCompareMode.NON_EXTENSIBLE);
+    }
+
     @Test
     public void testSerializeEmpty() throws JsonProcessingException, IOException, SerializationException, JSONException {
         validateAndCompare(new java.io.File("src/test/resources/empty_aas.json"), new DefaultAssetAdministrationShellEnvironment.Builder().build());
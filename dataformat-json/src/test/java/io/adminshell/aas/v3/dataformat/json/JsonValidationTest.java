@@ -18,7 +18,11 @@ package io.adminshell.aas.v3.dataformat.json;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.adminshell.aas.v3.dataformat.DeserializationException;
+import io.adminshell.aas.v3.dataformat.ValidatedEnvironment;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Set;
@@ -61,4 +65,26 @@ public class JsonValidationTest {
         }
         assertEquals(2, errors.size());
     }
+
+    @Test
+    @Parameters({"src/test/resources/jsonExample.json", "src/test/resources/invalidJsonExample.json"})
+    public void validateStreamAndTreeLikeString(String file) throws IOException {
+        String serializedEnvironment = new String(Files.readAllBytes(Paths.get(file)));
+        Set<String> expected = validator.validateSchema(serializedEnvironment);
+        try (InputStream src = Files.newInputStream(Paths.get(file))) {
+            assertEquals(expected, validator.validateSchema(src));
+        }
+        assertEquals(expected, validator.validateSchema(new ObjectMapper().readTree(serializedEnvironment)));
+        assertEquals(expected, new JsonSchemaValidator().validateSchema(serializedEnvironment));
+    }
+
+    @Test
+    @Parameters({"src/test/resources/jsonExample.json", "src/test/resources/invalidJsonExample.json"})
+    public void readValidatedLikeValidateAndRead(String file) throws IOException, DeserializationException {
+        String serializedEnvironment = new String(Files.readAllBytes(Paths.get(file)));
+        JsonDeserializer deserializer = new JsonDeserializer();
+        ValidatedEnvironment result = deserializer.readValidated(serializedEnvironment);
+        assertEquals(validator.validateSchema(serializedEnvironment), result.getMessages());
+        assertEquals(deserializer.read(serializedEnvironment), result.getEnvironment());
+    }
 }
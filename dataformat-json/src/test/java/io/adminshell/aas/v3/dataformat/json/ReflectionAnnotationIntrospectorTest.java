@@ -35,22 +35,22 @@ import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.jsontype.impl.TypeNameIdResolver;
 
+import io.adminshell.aas.v3.dataformat.core.ClassA;
+import io.adminshell.aas.v3.dataformat.core.ClassB;
 import io.adminshell.aas.v3.dataformat.core.CustomProperty;
 import io.adminshell.aas.v3.dataformat.core.CustomSubProperty;
 import io.adminshell.aas.v3.dataformat.core.CustomSubmodel;
 import io.adminshell.aas.v3.dataformat.core.CustomSubmodel2;
+import io.adminshell.aas.v3.dataformat.core.DummyInterface;
+import io.adminshell.aas.v3.dataformat.core.TypedProperty;
+import io.adminshell.aas.v3.dataformat.core.TypedSubProperty;
 import io.adminshell.aas.v3.dataformat.json.mixins.ReferenceMixin;
-import io.adminshell.aas.v3.model.ClassA;
-import io.adminshell.aas.v3.model.ClassB;
 import io.adminshell.aas.v3.model.DataElement;
-import io.adminshell.aas.v3.model.DummyInterface;
 import io.adminshell.aas.v3.model.Identifiable;
 import io.adminshell.aas.v3.model.Property;
 import io.adminshell.aas.v3.model.Referable;
 import io.adminshell.aas.v3.model.Submodel;
 import io.adminshell.aas.v3.model.SubmodelElement;
-import io.adminshell.aas.v3.model.TypedProperty;
-import io.adminshell.aas.v3.model.TypedSubProperty;
 
 //review AAS-134: some basic, rather simple tests would be helpful to understand/document the cases for which the introspector is build for
 //also some javadoc could help
@@ -94,8 +94,8 @@ public class ReflectionAnnotationIntrospectorTest {
     public void testFindTypeNameForClassesWithTypeInfo() throws Exception {
         Map.of(CustomProperty.class, Property.class,
                 CustomSubProperty.class, Property.class,
-                TypedProperty.class, TypedProperty.class,
-                TypedSubProperty.class, TypedSubProperty.class,
+                TypedProperty.class, Property.class,
+                TypedSubProperty.class, Property.class,
                 CustomSubmodel.class, Submodel.class,
                 CustomSubmodel2.class, Submodel.class
         ).entrySet()
@@ -151,7 +151,7 @@ public class ReflectionAnnotationIntrospectorTest {
     }
 
     @Test
-    public void testFindSubtypesForCustomClassesInModelNamespace() throws Exception {
+    public void testFindSubtypesForCustomClasses() throws Exception {
         List.of(ClassA.class,
                 ClassB.class)
                 .forEach(x -> {
@@ -161,12 +161,11 @@ public class ReflectionAnnotationIntrospectorTest {
     }
 
     @Test
-    public void testFindSubtypesForCustomInterfacesInModelNamespace() throws Exception {
+    public void testFindSubtypesForCustomInterfaces() throws Exception {
         List.of(TypedProperty.class)
                 .forEach(x -> {
                     List<NamedType> subtypes = introspector.findSubtypes(getAnnotatedClass(x));
-                    assertTrue(subtypes != null);
-                    assertTrue(!subtypes.isEmpty());
+                    assertTrue(subtypes == null || subtypes.isEmpty());
                 });
     }
 
@@ -45,6 +45,9 @@ public class JsonLDSerializer extends BeanSerializer {
 
     private final Map<Object, String> idMap;
 
+    // looked up first so already serialized beans are not hashed at all, idMap is only accessed once per new bean
+    private final Map<Object, String> identityIdMap = new IdentityHashMap<>();
+
     JsonLDSerializer(BeanSerializerBase src, Map<Object, String> idMap) {
         super(src);
         this.idMap = Objects.requireNonNullElseGet(idMap, HashMap::new);
@@ -67,16 +70,13 @@ public class JsonLDSerializer extends BeanSerializer {
 
         }
 
-        if(idMap.containsKey(bean))
-        {
-            gen.writeStringField("@id", idMap.get(bean));
-        }
-        else
+        String id = identityIdMap.get(bean);
+        if(id == null)
         {
-            String randomUri = "https://admin-shell.io/autogen/" + bean.getClass().getSimpleName() + "/" + UUID.randomUUID();
-            idMap.put(bean, randomUri);
-            gen.writeStringField("@id", randomUri);
+            id = idMap.computeIfAbsent(bean, x -> "https://admin-shell.io/autogen/" + x.getClass().getSimpleName() + "/" + UUID.randomUUID());
+            identityIdMap.put(bean, id);
         }
+        gen.writeStringField("@id", id);
 
         WritableTypeId typeIdDef = _typeIdDef(typeSer, bean, JsonToken.START_OBJECT);
         String resolvedTypeId = typeIdDef.id != null ? typeIdDef.id.toString() : typeSer.getTypeIdResolver().idFromValue(bean);
@@ -73,4 +73,27 @@ public class SerializerTest {
         //AssetAdministrationShellEnvironment assetAdministrationShellEnvironment = new Serializer().deserialize(output, AssetAdministrationShellEnvironment.class);
         //System.out.println(assetAdministrationShellEnvironment.getAssetAdministrationShells().get(0).getDescriptions().get(0).getValue());
     }
+
+    @Test
+    public void serializedBeansAreHashedOnlyOnce() throws IOException {
+        CountingSubmodel submodel = new CountingSubmodel();
+        submodel.setIdShort("counting");
+        Serializer serializer = new Serializer();
+        String first = serializer.serialize(submodel, RDFLanguages.JSONLD);
+        Assert.assertEquals(1, submodel.hashCodeCalls);
+        String second = serializer.serialize(submodel, RDFLanguages.JSONLD);
+        Assert.assertEquals(1, submodel.hashCodeCalls);
+        Assert.assertEquals(first, second);
+    }
+
+    private static class CountingSubmodel extends DefaultSubmodel {
+
+        private int hashCodeCalls;
+
+        @Override
+        public int hashCode() {
+            hashCodeCalls++;
+            return super.hashCode();
+        }
+    }
 }
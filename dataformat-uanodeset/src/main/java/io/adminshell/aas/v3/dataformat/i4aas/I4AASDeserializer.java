@@ -15,6 +15,9 @@
  */
 package io.adminshell.aas.v3.dataformat.i4aas;
 
+import java.io.Reader;
+import java.io.StringReader;
+
 import javax.xml.bind.JAXBException;
 
 import org.opcfoundation.ua._2011._03.uanodeset.UANodeSet;
@@ -36,8 +39,16 @@ public class I4AASDeserializer implements Deserializer {
 	 */
 	@Override
 	public AssetAdministrationShellEnvironment read(String input) throws DeserializationException {
+		return read(new StringReader(input));
+	}
+
+	/**
+	 * reads a I4AAS from a reader and return the model object
+	 */
+	@Override
+	public AssetAdministrationShellEnvironment read(Reader reader) throws DeserializationException {
 		try {
-			UANodeSet unmarshall = new UANodeSetUnmarshaller().unmarshall(input);
+			UANodeSet unmarshall = new UANodeSetUnmarshaller().unmarshall(reader);
 			ParserContext parserContext = new ParserContext(unmarshall);
 			AssetAdministrationShellEnvironment parsedEnvironment = new EnvironmentParser(parserContext.getEnvironment(), parserContext).parse();
 			return parsedEnvironment;
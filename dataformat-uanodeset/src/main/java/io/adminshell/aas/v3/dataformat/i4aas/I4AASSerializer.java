@@ -15,10 +15,12 @@
  */
 package io.adminshell.aas.v3.dataformat.i4aas;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import javax.xml.bind.JAXBException;
 
 import org.opcfoundation.ua._2011._03.uanodeset.UANodeSet;
-import org.opcfoundation.ua._2011._03.uanodeset.UAObject;
 
 import io.adminshell.aas.v3.dataformat.SerializationException;
 import io.adminshell.aas.v3.dataformat.Serializer;
@@ -53,18 +55,32 @@ public class I4AASSerializer implements Serializer {
 	 */
 	@Override
 	public String write(AssetAdministrationShellEnvironment aasEnvironment) throws SerializationException {
-		MappingContext mappingContext = new MappingContext(aasEnvironment);
-		mappingContext.setAddMissingSemanticIdsToDictionary(addMissingSemanticIdsToDictionary);
-		UAObject uaEnv = new EnvironmentMapper(mappingContext.getEnvironment(), mappingContext).map();
-		//map action
-		UANodeSet nodeset = mappingContext.getNodeSet();
-		
 		try {
-			return new UANodeSetMarshaller(nodeset).marshallAsString();
+			return new UANodeSetMarshaller(map(aasEnvironment)).marshallAsString();
+		} catch (JAXBException e) {
+			throw new SerializationException("Serialization failed due to a JAXBException.", e);
+		}
+
+	}
+
+	/**
+	 * takes a AAS model and writes it as I4AAS directly to the given writer.
+	 */
+	@Override
+	public void write(Writer writer, AssetAdministrationShellEnvironment aasEnvironment) throws IOException, SerializationException {
+		try {
+			new UANodeSetMarshaller(map(aasEnvironment)).marshall(writer);
+			writer.flush();
 		} catch (JAXBException e) {
 			throw new SerializationException("Serialization failed due to a JAXBException.", e);
 		}
+	}
 
+	private UANodeSet map(AssetAdministrationShellEnvironment aasEnvironment) {
+		MappingContext mappingContext = new MappingContext(aasEnvironment);
+		mappingContext.setAddMissingSemanticIdsToDictionary(addMissingSemanticIdsToDictionary);
+		new EnvironmentMapper(mappingContext.getEnvironment(), mappingContext).map();
+		return mappingContext.getNodeSet();
 	}
 
 }
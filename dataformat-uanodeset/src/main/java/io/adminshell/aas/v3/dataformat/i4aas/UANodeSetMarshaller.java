@@ -16,6 +16,7 @@
 package io.adminshell.aas.v3.dataformat.i4aas;
 
 import java.io.StringWriter;
+import java.io.Writer;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -45,12 +46,23 @@ public class UANodeSetMarshaller {
 	 * @throws JAXBException if action failed
 	 */
 	public String marshallAsString() throws JAXBException {
+		StringWriter stringWriter = new StringWriter();
+		marshall(stringWriter);
+		return stringWriter.toString();
+	}
+
+	/**
+	 * Marshalls the UANodeSet given in constructor directly to a writer. The
+	 * writer is not closed.
+	 * 
+	 * @param writer the writer to marshall to
+	 * @throws JAXBException if action failed
+	 */
+	public void marshall(Writer writer) throws JAXBException {
 		JAXBContext jaxbCtx = org.eclipse.persistence.jaxb.JAXBContextFactory.createContext(new Class[] {UANodeSet.class, ListOfExtensionObject.class, AASKeyDataType.class}, null);
 		Marshaller marshaller = jaxbCtx.createMarshaller();
 		marshaller.setProperty("jaxb.formatted.output", true);
-		StringWriter stringWriter = new StringWriter();
-		marshaller.marshal(nodeset, stringWriter);
-		return stringWriter.toString();
+		marshaller.marshal(nodeset, writer);
 	}
 
 }
@@ -16,6 +16,7 @@
 package io.adminshell.aas.v3.dataformat.i4aas;
 
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringReader;
 
 import javax.xml.bind.JAXBContext;
@@ -62,4 +63,13 @@ public class UANodeSetUnmarshaller {
 	public UANodeSet unmarshall(InputStream input) throws JAXBException {
 		return (UANodeSet) unmarshaller.unmarshal(input);
 	}
+
+	/**
+	 * @param input UANodeSet as XML reader
+	 * @return unmarshalled UANodeSet
+	 * @throws JAXBException if action failed
+	 */
+	public UANodeSet unmarshall(Reader input) throws JAXBException {
+		return (UANodeSet) unmarshaller.unmarshal(input);
+	}
 }
@@ -17,6 +17,7 @@ package io.adminshell.aas.v3.dataformat.i4aas.mappers;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -34,6 +35,7 @@ import org.opcfoundation.ua._2011._03.uanodeset.UAObject;
 import org.opcfoundation.ua._2011._03.uanodeset.UriTable;
 
 import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnvironmentIndex;
 import io.adminshell.aas.v3.dataformat.i4aas.mappers.utils.I4AASConstants;
 import io.adminshell.aas.v3.dataformat.i4aas.mappers.utils.I4AASIdentifier;
 import io.adminshell.aas.v3.dataformat.i4aas.mappers.utils.I4AASUtils;
@@ -47,6 +49,7 @@ public class MappingContext {
 
 	private final UANodeSet nodeset;
 	private final AssetAdministrationShellEnvironment aasEnvironment;
+	private final EnvironmentIndex environmentIndex;
 	private final String modelNamspace;
 
 	private final DatatypeFactory datatypeFactory = DatatypeFactory.newDefaultInstance();
@@ -65,6 +68,7 @@ public class MappingContext {
 
 	public MappingContext(AssetAdministrationShellEnvironment aasEnvironment) {
 		this.aasEnvironment = aasEnvironment;
+		this.environmentIndex = new EnvironmentIndex(aasEnvironment);
 		nodeset = new UANodeSet();
 		modelNamspace = modelNamespaceNamingStrategy.apply(nodeset);
 		initNodeset();
@@ -159,7 +163,8 @@ public class MappingContext {
 		return i4aasNsIndex;
 	}
 
-	private Map<Referable, UAObject> sourceReferableToTargetIdentifier = new HashMap<>();
+	// referables are compared by identity as their hashCode/equals cover the whole subtree
+	private Map<Referable, UAObject> sourceReferableToTargetIdentifier = new IdentityHashMap<>();
 	private Map<UAObject, Reference> targetReferenceToSourceReference = new HashMap<>();
 
 	public void registerReferableMapped(Referable sourceReferable, UAObject targetReferable) {
@@ -167,8 +172,8 @@ public class MappingContext {
 
 		// try a local, native UA reference binding
 		for (Entry<UAObject, Reference> entry : targetReferenceToSourceReference.entrySet()) {
-			Referable resolve = AasUtils.resolve(entry.getValue(), aasEnvironment);
-			if (sourceReferable.equals(resolve)) {
+			Referable resolve = AasUtils.resolve(entry.getValue(), environmentIndex);
+			if (sourceReferable == resolve) {
 				I4AASMapper.attachAsAddIn(entry.getKey(), targetReferable);
 			}
 		}
@@ -178,7 +183,7 @@ public class MappingContext {
 		targetReferenceToSourceReference.put(targetReference, sourceReference);
 
 		// try a local, native UA reference binding
-		Referable resolve = AasUtils.resolve(sourceReference, aasEnvironment);
+		Referable resolve = AasUtils.resolve(sourceReference, environmentIndex);
 		if (resolve != null) {
 			UAObject uaObject = sourceReferableToTargetIdentifier.get(resolve);
 			if (uaObject != null) {
@@ -188,7 +193,7 @@ public class MappingContext {
 	}
 
 	public final UAObject getTargetNodeForReference(Reference semanticId) {
-		Referable resolve = AasUtils.resolve(semanticId, aasEnvironment);
+		Referable resolve = AasUtils.resolve(semanticId, environmentIndex);
 		return sourceReferableToTargetIdentifier.get(resolve);
 	}
 
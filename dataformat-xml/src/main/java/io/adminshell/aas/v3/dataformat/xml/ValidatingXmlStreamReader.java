@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.xml;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * XMLStreamReader that forwards every event read by its consumer to a
+ * ValidatorHandler of the given schema. This allows binding and schema
+ * validation to share a single pass over the document. Validation errors do
+ * not abort reading but are collected up to a maximum number and available
+ * via getMessages(). Once the maximum is reached, validation stops, as
+ * XmlSchemaValidator does.
+ */
+class ValidatingXmlStreamReader extends StreamReaderDelegate implements AutoCloseable {
+
+    private final ValidatorHandler handler;
+    private final Set<String> messages = new LinkedHashSet<>();
+    private final int maxErrors;
+
+    ValidatingXmlStreamReader(XMLStreamReader reader, Schema schema, int maxErrors) throws XMLStreamException {
+        super(reader);
+        this.maxErrors = maxErrors;
+        this.handler = schema.newValidatorHandler();
+        this.handler.setErrorHandler(new ErrorHandler() {
+            @Override
+            public void warning(SAXParseException exception) {
+            }
+
+            @Override
+            public void error(SAXParseException exception) {
+                add(exception);
+            }
+
+            @Override
+            public void fatalError(SAXParseException exception) {
+                add(exception);
+            }
+        });
+        try {
+            handler.startDocument();
+        } catch (SAXException ex) {
+            throw new XMLStreamException(ex);
+        }
+    }
+
+    public Set<String> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Reads and validates the part of the document not consumed yet
+     *
+     * @throws XMLStreamException if reading fails
+     */
+    public void validateRemaining() throws XMLStreamException {
+        while (super.hasNext() && !isValidationStopped()) {
+            next();
+        }
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        int event = super.next();
+        if (isValidationStopped()) {
+            return event;
+        }
+        try {
+            forward(event);
+        } catch (SAXException ex) {
+            throw new XMLStreamException(ex);
+        }
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while ((event == XMLStreamConstants.CHARACTERS && isWhiteSpace())
+                || (event == XMLStreamConstants.CDATA && isWhiteSpace())
+                || event == XMLStreamConstants.SPACE
+                || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+                || event == XMLStreamConstants.COMMENT) {
+            event = next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("expected start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("parser must be on START_ELEMENT to read next text", getLocation());
+        }
+        StringBuilder result = new StringBuilder();
+        int event = next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.CHARACTERS
+                    || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE
+                    || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                result.append(getText());
+            } else if (event != XMLStreamConstants.PROCESSING_INSTRUCTION && event != XMLStreamConstants.COMMENT) {
+                throw new XMLStreamException("unexpected event while reading element text", getLocation());
+            }
+            event = next();
+        }
+        return result.toString();
+    }
+
+    private boolean isValidationStopped() {
+        return messages.size() >= maxErrors;
+    }
+
+    private void add(SAXParseException exception) {
+        if (!isValidationStopped()) {
+            messages.add(exception.getMessage());
+        }
+    }
+
+    private void forward(int event) throws SAXException {
+        switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                for (int i = 0; i < getNamespaceCount(); i++) {
+                    handler.startPrefixMapping(nullToEmpty(getNamespacePrefix(i)), nullToEmpty(getNamespaceURI(i)));
+                }
+                AttributesImpl attributes = new AttributesImpl();
+                for (int i = 0; i < getAttributeCount(); i++) {
+                    attributes.addAttribute(
+                            nullToEmpty(getAttributeNamespace(i)),
+                            getAttributeLocalName(i),
+                            qualifiedName(getAttributePrefix(i), getAttributeLocalName(i)),
+                            getAttributeType(i),
+                            getAttributeValue(i));
+                }
+                handler.startElement(nullToEmpty(getNamespaceURI()), getLocalName(), qualifiedName(getPrefix(), getLocalName()), attributes);
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                handler.endElement(nullToEmpty(getNamespaceURI()), getLocalName(), qualifiedName(getPrefix(), getLocalName()));
+                for (int i = 0; i < getNamespaceCount(); i++) {
+                    handler.endPrefixMapping(nullToEmpty(getNamespacePrefix(i)));
+                }
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+                handler.characters(getTextCharacters(), getTextStart(), getTextLength());
+                break;
+            case XMLStreamConstants.SPACE:
+                handler.ignorableWhitespace(getTextCharacters(), getTextStart(), getTextLength());
+                break;
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                handler.processingInstruction(getPITarget(), getPIData());
+                break;
+            case XMLStreamConstants.END_DOCUMENT:
+                handler.endDocument();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty()
+                ? localName
+                : prefix + ":" + localName;
+    }
+}
@@ -15,45 +15,161 @@
  */
 package io.adminshell.aas.v3.dataformat.xml;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.xml.sax.SAXException;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 import io.adminshell.aas.v3.dataformat.DeserializationException;
 import io.adminshell.aas.v3.dataformat.Deserializer;
+import io.adminshell.aas.v3.dataformat.ValidatedEnvironment;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
+import io.adminshell.aas.v3.dataformat.core.accessor.GeneratedAccessorModule;
 import io.adminshell.aas.v3.dataformat.core.deserialization.EnumDeserializer;
 import io.adminshell.aas.v3.dataformat.xml.deserialization.SubmodelElementDeserializer;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
 import io.adminshell.aas.v3.model.SubmodelElement;
 
+/**
+ * Class for deserializing/parsing AAS XML documents.
+ *
+ * Instances using the same custom implementations share one mapper.
+ *
+ * Instances created via XmlDeserializer.Builder are immutable, i.e. calling
+ * useImplementation(...) on them throws an UnsupportedOperationException.
+ */
 public class XmlDeserializer implements Deserializer {
 
+    /**
+     * Readers shared per set of custom implementations. The cache is attached
+     * to a class whose class loader sees all custom implementations, see
+     * getCacheOwner(), so it does not keep any of their class loaders alive.
+     */
+    private static final ClassValue<Map<Map<Class<?>, Class<?>>, ObjectReader>> SHARED_READERS = new ClassValue<>() {
+        @Override
+        protected Map<Map<Class<?>, Class<?>>, ObjectReader> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * Mapper of subclasses, built via buildMapper(). Instances of this class
+     * use a configured, possibly shared reader instead and leave this null.
+     */
     protected XmlMapper mapper;
+    private volatile ObjectReader configuredReader;
     protected SimpleAbstractTypeResolver typeResolver;
+    private final Map<Class<?>, Class<?>> customImplementations = new LinkedHashMap<>();
+    private final boolean immutable;
+    private XmlSchemaValidator schemaValidator;
     protected static Map<Class<?>, com.fasterxml.jackson.databind.JsonDeserializer> customDeserializers = Map.of(
             SubmodelElement.class, new SubmodelElementDeserializer());
 
     public XmlDeserializer() {
+        this(Map.of(), false);
+    }
+
+    private XmlDeserializer(Map<Class<?>, Class<?>> customImplementations, boolean immutable) {
+        this.customImplementations.putAll(customImplementations);
+        this.immutable = immutable;
         initTypeResolver();
-        buildMapper();
+        initMapper();
+    }
+
+    private void initMapper() {
+        if (getClass() != XmlDeserializer.class) {
+            buildMapper();
+            return;
+        }
+        Class<?> owner = getCacheOwner();
+        configuredReader = owner == null
+                ? createMapper().reader()
+                : SHARED_READERS.get(owner).computeIfAbsent(Map.copyOf(customImplementations), x -> createMapper().reader());
+    }
+
+    /**
+     * Returns the class to attach the shared reader to. This is the first
+     * custom implementation class (or this class if there is none), provided
+     * that its class loader sees all other classes of the configuration.
+     *
+     * @return the class to attach the shared reader to or null if the reader
+     * must not be shared
+     */
+    private Class<?> getCacheOwner() {
+        if (customImplementations.isEmpty()) {
+            return XmlDeserializer.class;
+        }
+        Class<?> owner = customImplementations.values().iterator().next();
+        return customImplementations.entrySet().stream()
+                .allMatch(x -> isVisible(x.getKey(), owner.getClassLoader()) && isVisible(x.getValue(), owner.getClassLoader()))
+                ? owner
+                : null;
+    }
+
+    private static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
     }
 
     protected void buildMapper() {
-        mapper = XmlMapper.builder().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+        mapper = createMapper();
+    }
+
+    /**
+     * Returns the reader to use for deserialization
+     *
+     * @return the shared reader or a reader of the mapper built by a subclass
+     */
+    ObjectReader reader() {
+        return mapper != null
+                ? mapper.reader()
+                : configuredReader;
+    }
+
+    /**
+     * Binds the element the given XMLStreamReader is positioned at
+     *
+     * @param <T> the type to bind to
+     * @param objectReader the reader to use, see reader()
+     * @param xmlReader the XMLStreamReader positioned at a start element
+     * @param type the type to bind to
+     * @return the bound element
+     * @throws IOException if binding fails
+     */
+    static <T> T readValue(ObjectReader objectReader, XMLStreamReader xmlReader, Class<T> type) throws IOException {
+        return objectReader.readValue(((XmlFactory) objectReader.getFactory()).createParser(xmlReader), type);
+    }
+
+    private XmlMapper createMapper() {
+        XmlMapper result = XmlMapper.builder().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
                 .serializationInclusion(JsonInclude.Include.NON_NULL)
                 .annotationIntrospector(new XmlDataformatAnnotationIntrospector())
                 .addModule(buildImplementationModule())
                 .addModule(buildCustomDeserializerModule())
                 .addModule(buildEnumModule())
+                .addModule(new GeneratedAccessorModule())
                 .build();
-        ReflectionHelper.XML_MIXINS.entrySet().forEach(x -> mapper.addMixIn(x.getKey(), x.getValue()));
+        ReflectionHelper.XML_MIXINS.entrySet().forEach(x -> result.addMixIn(x.getKey(), x.getValue()));
+        return result;
     }
 
     protected SimpleModule buildCustomDeserializerModule() {
@@ -62,12 +178,15 @@ public class XmlDeserializer implements Deserializer {
         return module;
     }
 
+    @SuppressWarnings("unchecked")
     private void initTypeResolver() {
+        // always create a new resolver as the previous one may be in use by a shared mapper
         typeResolver = new SimpleAbstractTypeResolver();
         ReflectionHelper.DEFAULT_IMPLEMENTATIONS
                 .stream()
                 .filter(x -> !customDeserializers.containsKey(x.getInterfaceType()))
                 .forEach(x -> typeResolver.addMapping(x.getInterfaceType(), x.getImplementationType()));
+        customImplementations.forEach((x, y) -> typeResolver.addMapping((Class<Object>) x, y));
     }
 
     protected SimpleModule buildEnumModule() {
@@ -85,15 +204,120 @@ public class XmlDeserializer implements Deserializer {
     @Override
     public AssetAdministrationShellEnvironment read(String value) throws DeserializationException {
         try {
-            return mapper.readValue(value, AssetAdministrationShellEnvironment.class);
+            return reader().forType(AssetAdministrationShellEnvironment.class).readValue(value);
         } catch (JsonProcessingException ex) {
             throw new DeserializationException("deserialization failed", ex);
         }
     }
 
+    @Override
+    public AssetAdministrationShellEnvironment read(Reader reader) throws DeserializationException {
+        try {
+            return reader().forType(AssetAdministrationShellEnvironment.class).readValue(reader);
+        } catch (IOException ex) {
+            throw new DeserializationException("deserialization failed", ex);
+        }
+    }
+
+    /**
+     * Deserializes an AssetAdministrationShellEnvironment and validates it
+     * against the AAS XML schema in a single pass over the document.
+     *
+     * @param value serialized AssetAdministrationShellEnvironment
+     * @return the deserialized environment together with the schema
+     * validation messages
+     * @throws DeserializationException if the document is not well-formed or
+     * can not be bound to an AssetAdministrationShellEnvironment
+     */
+    public ValidatedEnvironment readValidated(String value) throws DeserializationException {
+        return readValidated(new StringReader(value));
+    }
+
+    /**
+     * Deserializes an AssetAdministrationShellEnvironment and validates it
+     * against the AAS XML schema in a single pass over the document, i.e. the
+     * events consumed while binding are validated as they are read. The
+     * messages are the same as reported by
+     * {@link XmlSchemaValidator#validateSchema(String)} of the schema validator
+     * used by this deserializer.
+     *
+     * @param reader reader providing the serialized
+     * AssetAdministrationShellEnvironment
+     * @return the deserialized environment together with the schema
+     * validation messages
+     * @throws DeserializationException if the document is not well-formed or
+     * can not be bound to an AssetAdministrationShellEnvironment
+     */
+    public ValidatedEnvironment readValidated(Reader reader) throws DeserializationException {
+        ObjectReader objectReader = reader();
+        XmlSchemaValidator validator = getSchemaValidator();
+        try (ValidatingXmlStreamReader validatingReader = new ValidatingXmlStreamReader(
+                ((XmlFactory) objectReader.getFactory()).getXMLInputFactory().createXMLStreamReader(reader),
+                validator.getSchema(),
+                validator.getMaxErrors())) {
+            validatingReader.nextTag();
+            AssetAdministrationShellEnvironment environment = readValue(objectReader, validatingReader, AssetAdministrationShellEnvironment.class);
+            validatingReader.validateRemaining();
+            return new ValidatedEnvironment(environment, validatingReader.getMessages());
+        } catch (XMLStreamException | IOException ex) {
+            throw new DeserializationException("deserialization failed", ex);
+        }
+    }
+
+    private synchronized XmlSchemaValidator getSchemaValidator() throws DeserializationException {
+        if (schemaValidator == null) {
+            try {
+                schemaValidator = new XmlSchemaValidator();
+            } catch (SAXException ex) {
+                throw new DeserializationException("error loading AAS XML schema", ex);
+            }
+        }
+        return schemaValidator;
+    }
+
+    /**
+     * See Deserializer.useImplementation(...). Not supported by immutable
+     * instances.
+     *
+     * @throws UnsupportedOperationException if this instance has been created
+     * via XmlDeserializer.Builder, use
+     * XmlDeserializer.Builder.useImplementation(...) instead
+     */
     @Override
     public <T> void useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
-        typeResolver.addMapping(aasInterface, implementation);
-        buildMapper();
+        if (immutable) {
+            throw new UnsupportedOperationException("deserializer is immutable, use XmlDeserializer.Builder.useImplementation(...) instead");
+        }
+        customImplementations.put(aasInterface, implementation);
+        initTypeResolver();
+        initMapper();
+    }
+
+    /**
+     * Builder for immutable instances of XmlDeserializer
+     */
+    public static class Builder {
+
+        private final Map<Class<?>, Class<?>> customImplementations = new LinkedHashMap<>();
+
+        /**
+         * Defines a custom implementation to be used for deserialization
+         * instead of the default implementation, see
+         * Deserializer.useImplementation(...)
+         *
+         * @param <T> the type of the interface to replace
+         * @param aasInterface the class of the interface to replace
+         * @param implementation the class implementing the interface that
+         * should be used for deserialization.
+         * @return this builder
+         */
+        public <T> Builder useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
+            customImplementations.put(aasInterface, implementation);
+            return this;
+        }
+
+        public XmlDeserializer build() {
+            return new XmlDeserializer(customImplementations, true);
+        }
     }
 }
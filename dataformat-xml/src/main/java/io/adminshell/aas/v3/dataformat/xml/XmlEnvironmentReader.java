@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.xml;
+
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.AASENV_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.AASLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.AAS_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.ASSETLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.ASSET_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.CONCEPTDICTIONARYLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.CONCEPTDICTIONARY_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.SUBMODELLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.SUBMODEL_TAGNAME;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+import io.adminshell.aas.v3.dataformat.DeserializationException;
+import io.adminshell.aas.v3.model.Asset;
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.Identifiable;
+import io.adminshell.aas.v3.model.Submodel;
+
+/**
+ * Pull-based reader for AAS XML environments built on the underlying StAX
+ * parser. Instead of materializing the whole
+ * AssetAdministrationShellEnvironment, each assetAdministrationShell, asset,
+ * submodel and conceptDescription element is bound and returned as soon as it
+ * is complete, so only one of them is held in memory at once.
+ *
+ * Elements are bound with the reader of a XmlDeserializer, i.e. custom
+ * implementations registered via XmlDeserializer.useImplementation(...) are
+ * respected. As Iterator does not allow checked exceptions, errors while
+ * parsing are thrown as UncheckedIOException.
+ */
+public class XmlEnvironmentReader implements Iterator<Identifiable>, Closeable {
+
+    private static final Map<QName, QName> WRAPPED_ELEMENTS = Map.of(
+            AASLIST_TAGNAME, AAS_TAGNAME,
+            ASSETLIST_TAGNAME, ASSET_TAGNAME,
+            SUBMODELLIST_TAGNAME, SUBMODEL_TAGNAME,
+            CONCEPTDICTIONARYLIST_TAGNAME, CONCEPTDICTIONARY_TAGNAME);
+
+    private static final Map<QName, Class<? extends Identifiable>> TYPES = Map.of(
+            AAS_TAGNAME, AssetAdministrationShell.class,
+            ASSET_TAGNAME, Asset.class,
+            SUBMODEL_TAGNAME, Submodel.class,
+            CONCEPTDICTIONARY_TAGNAME, ConceptDescription.class);
+
+    private final ObjectReader objectReader;
+    private final Closeable src;
+    private final XMLStreamReader reader;
+    private QName currentWrapper;
+    private Identifiable next;
+    private boolean finished;
+
+    public XmlEnvironmentReader(Reader reader) throws DeserializationException {
+        this(new XmlDeserializer(), reader);
+    }
+
+    public XmlEnvironmentReader(InputStream src) throws DeserializationException {
+        this(new XmlDeserializer(), src);
+    }
+
+    public XmlEnvironmentReader(XmlDeserializer deserializer, Reader reader) throws DeserializationException {
+        this.objectReader = deserializer.reader();
+        this.src = reader;
+        try {
+            this.reader = ((XmlFactory) objectReader.getFactory()).getXMLInputFactory().createXMLStreamReader(reader);
+        } catch (XMLStreamException ex) {
+            throw new DeserializationException("error creating XML stream reader", ex);
+        }
+        readStart();
+    }
+
+    public XmlEnvironmentReader(XmlDeserializer deserializer, InputStream src) throws DeserializationException {
+        this.objectReader = deserializer.reader();
+        this.src = src;
+        try {
+            this.reader = ((XmlFactory) objectReader.getFactory()).getXMLInputFactory().createXMLStreamReader(src);
+        } catch (XMLStreamException ex) {
+            throw new DeserializationException("error creating XML stream reader", ex);
+        }
+        readStart();
+    }
+
+    private void readStart() throws DeserializationException {
+        try {
+            if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !AASENV_TAGNAME.equals(reader.getName())) {
+                throw new DeserializationException(String.format("root element must be %s", AASENV_TAGNAME));
+            }
+        } catch (XMLStreamException ex) {
+            throw new DeserializationException("deserialization failed", ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readNext();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("deserialization failed", ex);
+            } catch (XMLStreamException ex) {
+                throw new UncheckedIOException("deserialization failed", new IOException(ex));
+            }
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Identifiable next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Identifiable result = next;
+        next = null;
+        return result;
+    }
+
+    private Identifiable readNext() throws XMLStreamException, IOException {
+        while (true) {
+            if (reader.nextTag() == XMLStreamConstants.END_ELEMENT) {
+                if (currentWrapper == null) {
+                    // end of aasenv
+                    return null;
+                }
+                currentWrapper = null;
+                continue;
+            }
+            QName name = reader.getName();
+            if (currentWrapper == null) {
+                if (WRAPPED_ELEMENTS.containsKey(name)) {
+                    currentWrapper = name;
+                } else {
+                    skipElement();
+                }
+            } else if (WRAPPED_ELEMENTS.get(currentWrapper).equals(name)) {
+                return XmlDeserializer.readValue(objectReader, reader, TYPES.get(name));
+            } else {
+                skipElement();
+            }
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException ex) {
+            throw new IOException(ex);
+        } finally {
+            src.close();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.xml;
+
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.AASLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.AAS_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.ASSETLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.ASSET_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.CONCEPTDICTIONARYLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.CONCEPTDICTIONARY_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.SUBMODELLIST_TAGNAME;
+import static io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer.SUBMODEL_TAGNAME;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import javax.xml.namespace.QName;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+
+import io.adminshell.aas.v3.dataformat.SerializationException;
+import io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer;
+import io.adminshell.aas.v3.model.Asset;
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.Submodel;
+
+/**
+ * Incremental writer for AAS XML environments. In contrast to XmlSerializer no
+ * AssetAdministrationShellEnvironment is required, instead shells, assets,
+ * concept descriptions and submodels are written one by one, e.g. while
+ * iterating over a database cursor. The resulting document uses the same
+ * namespaces and schema location as XmlSerializer.
+ *
+ * Typical usage:
+ * <pre>
+ * try (XmlEnvironmentWriter writer = new XmlEnvironmentWriter(out)) {
+ *     writer.beginEnvironment();
+ *     writer.writeShell(shell);
+ *     for (Submodel submodel : submodels) {
+ *         writer.writeSubmodel(submodel);
+ *     }
+ *     writer.end();
+ * }
+ * </pre>
+ *
+ * As required by the XML schema, the elements must be written grouped by type
+ * in the order shells, assets, concept descriptions, submodels. Violating this
+ * order results in an IllegalStateException. Closing the writer does not close
+ * the underlying Writer or OutputStream.
+ */
+public class XmlEnvironmentWriter implements Closeable {
+
+    private enum Section {
+        NONE(null, null),
+        SHELLS(AASLIST_TAGNAME, AAS_TAGNAME),
+        ASSETS(ASSETLIST_TAGNAME, ASSET_TAGNAME),
+        CONCEPT_DESCRIPTIONS(CONCEPTDICTIONARYLIST_TAGNAME, CONCEPTDICTIONARY_TAGNAME),
+        SUBMODELS(SUBMODELLIST_TAGNAME, SUBMODEL_TAGNAME),
+        END(null, null);
+
+        private final QName wrapper;
+        private final QName wrapped;
+
+        private Section(QName wrapper, QName wrapped) {
+            this.wrapper = wrapper;
+            this.wrapped = wrapped;
+        }
+    }
+
+    private final AssetAdministrationShellEnvironmentSerializer environmentSerializer;
+    private final ToXmlGenerator generator;
+    private boolean started;
+    private Section section = Section.NONE;
+
+    public XmlEnvironmentWriter(Writer writer) throws SerializationException {
+        this(new XmlSerializer(), writer);
+    }
+
+    public XmlEnvironmentWriter(OutputStream out) throws SerializationException {
+        this(new XmlSerializer(), out);
+    }
+
+    public XmlEnvironmentWriter(XmlSerializer serializer, Writer writer) throws SerializationException {
+        this.environmentSerializer = createEnvironmentSerializer(serializer);
+        try {
+            this.generator = (ToXmlGenerator) createObjectWriter(serializer).createGenerator(writer);
+        } catch (IOException ex) {
+            throw new SerializationException("error creating XML generator", ex);
+        }
+    }
+
+    public XmlEnvironmentWriter(XmlSerializer serializer, OutputStream out) throws SerializationException {
+        this.environmentSerializer = createEnvironmentSerializer(serializer);
+        try {
+            this.generator = (ToXmlGenerator) createObjectWriter(serializer).createGenerator(out, JsonEncoding.UTF8);
+        } catch (IOException ex) {
+            throw new SerializationException("error creating XML generator", ex);
+        }
+    }
+
+    private static AssetAdministrationShellEnvironmentSerializer createEnvironmentSerializer(XmlSerializer serializer) {
+        return serializer.namespacePrefixes != null
+                ? new AssetAdministrationShellEnvironmentSerializer(serializer.namespacePrefixes)
+                : new AssetAdministrationShellEnvironmentSerializer();
+    }
+
+    private static ObjectWriter createObjectWriter(XmlSerializer serializer) {
+        return serializer.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Writes the XML declaration and the opening aasenv tag. Must be called
+     * exactly once before any other write method.
+     *
+     * @throws IOException if writing to the underlying target fails
+     * @throws SerializationException if the opening tag could not be written
+     */
+    public void beginEnvironment() throws IOException, SerializationException {
+        if (started) {
+            throw new IllegalStateException("environment has already been started");
+        }
+        started = true;
+        try {
+            generator.initGenerator();
+            environmentSerializer.writeStartEnvironment(generator);
+        } catch (JsonProcessingException ex) {
+            throw new SerializationException("serialization failed", ex);
+        }
+    }
+
+    public void writeShell(AssetAdministrationShell shell) throws IOException, SerializationException {
+        write(Section.SHELLS, shell);
+    }
+
+    public void writeAsset(Asset asset) throws IOException, SerializationException {
+        write(Section.ASSETS, asset);
+    }
+
+    public void writeConceptDescription(ConceptDescription conceptDescription) throws IOException, SerializationException {
+        write(Section.CONCEPT_DESCRIPTIONS, conceptDescription);
+    }
+
+    public void writeSubmodel(Submodel submodel) throws IOException, SerializationException {
+        write(Section.SUBMODELS, submodel);
+    }
+
+    /**
+     * Closes all open elements and flushes the output. After calling this
+     * method no further elements can be written.
+     *
+     * @throws IOException if writing to the underlying target fails
+     * @throws SerializationException if the output could not be finished
+     */
+    public void end() throws IOException, SerializationException {
+        switchTo(Section.END);
+        try {
+            environmentSerializer.writeEndEnvironment(generator);
+            generator.flush();
+        } catch (JsonProcessingException ex) {
+            throw new SerializationException("serialization failed", ex);
+        }
+    }
+
+    private void write(Section target, Object value) throws IOException, SerializationException {
+        switchTo(target);
+        try {
+            generator.writeObject(value);
+        } catch (JsonProcessingException ex) {
+            throw new SerializationException("serialization failed", ex);
+        }
+    }
+
+    private void switchTo(Section target) throws IOException, SerializationException {
+        if (!started) {
+            throw new IllegalStateException("beginEnvironment() must be called first");
+        }
+        if (section == Section.END) {
+            throw new IllegalStateException("environment has already been ended");
+        }
+        if (section == target) {
+            return;
+        }
+        if (section.compareTo(target) > 0) {
+            throw new IllegalStateException(String.format("%s can not be written after %s",
+                    target.name().toLowerCase(), section.name().toLowerCase()));
+        }
+        try {
+            if (section.wrapper != null) {
+                AssetAdministrationShellEnvironmentSerializer.writeEndWrapper(generator, section.wrapper, section.wrapped);
+            }
+            if (target.wrapper != null) {
+                AssetAdministrationShellEnvironmentSerializer.writeStartWrapper(generator, target.wrapper, target.wrapped);
+            }
+        } catch (JsonProcessingException ex) {
+            throw new SerializationException("serialization failed", ex);
+        }
+        section = target;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
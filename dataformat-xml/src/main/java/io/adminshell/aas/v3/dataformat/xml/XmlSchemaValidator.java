@@ -16,40 +16,216 @@
 package io.adminshell.aas.v3.dataformat.xml;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
 
+import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 
 import io.adminshell.aas.v3.dataformat.SchemaValidator;
 
+/**
+ * Validates serialized AssetAdministrationShellEnvironments against the AAS XML
+ * schema. The schema is compiled only once and instances of this class can be
+ * used concurrently. Validators are reused via a bounded pool of idle
+ * instances.
+ *
+ * By default, validation stops at the first error. To collect multiple errors
+ * in one run, create the validator with a higher maximum number of errors.
+ */
 public class XmlSchemaValidator implements SchemaValidator {
     private static final String SCHEMA = "/AAS.xsd";
+    public static final int DEFAULT_MAX_ERRORS = 1;
+    public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static volatile Schema defaultSchema;
     protected Schema schema;
+    private final int maxErrors;
+    private final BlockingQueue<Validator> validators;
 
     public XmlSchemaValidator() throws SAXException {
+        this(DEFAULT_MAX_ERRORS);
+    }
+
+    /**
+     * @param maxErrors maximum number of errors to collect before validation is
+     * aborted, use Integer.MAX_VALUE to collect all errors
+     * @throws SAXException if loading the schema fails
+     */
+    public XmlSchemaValidator(int maxErrors) throws SAXException {
+        this(maxErrors, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * @param maxErrors maximum number of errors to collect before validation is
+     * aborted, use Integer.MAX_VALUE to collect all errors
+     * @param poolSize maximum number of idle validators kept for reuse
+     * @throws SAXException if loading the schema fails
+     */
+    public XmlSchemaValidator(int maxErrors, int poolSize) throws SAXException {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1");
+        }
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be at least 1");
+        }
+        this.maxErrors = maxErrors;
+        this.validators = new ArrayBlockingQueue<>(poolSize);
         loadSchemaFromResource();
     }
 
     private void loadSchemaFromResource() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        schema = factory.newSchema(getClass().getResource(SCHEMA));
+        Schema result = defaultSchema;
+        if (result == null) {
+            synchronized (XmlSchemaValidator.class) {
+                result = defaultSchema;
+                if (result == null) {
+                    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+                    result = factory.newSchema(getClass().getResource(SCHEMA));
+                    defaultSchema = result;
+                }
+            }
+        }
+        schema = result;
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return maximum number of errors collected before validation is aborted
+     */
+    public int getMaxErrors() {
+        return maxErrors;
     }
 
     @Override
     public Set<String> validateSchema(String serializedAASEnvironment) {
-        Set<String> errorMessages = new HashSet<>();
-        try {
-            schema.newValidator().validate(new StreamSource(new java.io.StringReader(serializedAASEnvironment)));
-        } catch (SAXException | IOException se) {
-            errorMessages.add(se.getMessage());
+        return validateSchema(new StreamSource(new StringReader(serializedAASEnvironment)));
+    }
+
+    /**
+     * Validates a serialized AssetAdministrationShellEnvironment read from a
+     * stream. The stream is not closed.
+     *
+     * @param src stream providing the serialized
+     * AssetAdministrationShellEnvironment
+     * @return Set of validation errors. If validation succeeds, the Set is
+     * empty.
+     */
+    public Set<String> validateSchema(InputStream src) {
+        return validateSchema(new StreamSource(src));
+    }
+
+    /**
+     * Validates a serialized AssetAdministrationShellEnvironment stored in a
+     * file.
+     *
+     * @param file path of the file containing the serialized
+     * AssetAdministrationShellEnvironment
+     * @return Set of validation errors. If validation succeeds, the Set is
+     * empty.
+     */
+    public Set<String> validateSchema(Path file) {
+        try (InputStream src = Files.newInputStream(file)) {
+            return validateSchema(new StreamSource(src, file.toUri().toString()));
+        } catch (IOException ex) {
+            Set<String> errorMessages = new LinkedHashSet<>();
+            errorMessages.add(ex.getMessage());
             return errorMessages;
         }
+    }
+
+    /**
+     * Validates a serialized AssetAdministrationShellEnvironment provided as
+     * Source.
+     *
+     * @param source source of the serialized
+     * AssetAdministrationShellEnvironment
+     * @return Set of validation errors. If validation succeeds, the Set is
+     * empty.
+     */
+    public Set<String> validateSchema(Source source) {
+        Set<String> errorMessages = new LinkedHashSet<>();
+        Validator validator = borrowValidator();
+        validator.setErrorHandler(new CollectingErrorHandler(errorMessages, maxErrors));
+        try {
+            validator.validate(source);
+        } catch (SAXException | IOException ex) {
+            if (errorMessages.size() < maxErrors) {
+                errorMessages.add(ex.getMessage());
+            }
+        } finally {
+            releaseValidator(validator);
+        }
         return errorMessages;
     }
+
+    private Validator borrowValidator() {
+        Validator result = validators.poll();
+        return result != null
+                ? result
+                : schema.newValidator();
+    }
+
+    private void releaseValidator(Validator validator) {
+        try {
+            validator.reset();
+        } catch (UnsupportedOperationException ex) {
+            // validator can not be reused
+            return;
+        }
+        validators.offer(validator);
+    }
+
+    /**
+     * ErrorHandler collecting the messages of all errors and aborting
+     * validation once the maximum number of errors is reached.
+     */
+    private static class CollectingErrorHandler implements ErrorHandler {
+
+        private final Set<String> messages;
+        private final int maxErrors;
+
+        private CollectingErrorHandler(Set<String> messages, int maxErrors) {
+            this.messages = messages;
+            this.maxErrors = maxErrors;
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) throws SAXException {
+            add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+            add(exception);
+            throw exception;
+        }
+
+        private void add(SAXParseException exception) throws SAXException {
+            messages.add(exception.getMessage());
+            if (messages.size() >= maxErrors) {
+                throw exception;
+            }
+        }
+    }
 }
@@ -15,9 +15,15 @@
  */
 package io.adminshell.aas.v3.dataformat.xml;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -29,6 +35,7 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import io.adminshell.aas.v3.dataformat.SerializationException;
 import io.adminshell.aas.v3.dataformat.Serializer;
 import io.adminshell.aas.v3.dataformat.core.ReflectionHelper;
+import io.adminshell.aas.v3.dataformat.core.accessor.GeneratedAccessorModule;
 import io.adminshell.aas.v3.dataformat.core.serialization.EnumSerializer;
 import io.adminshell.aas.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer;
 import io.adminshell.aas.v3.dataformat.xml.serialization.EmbeddedDataSpecificationSerializer;
@@ -41,21 +48,68 @@ import io.adminshell.aas.v3.model.Key;
 import io.adminshell.aas.v3.model.LangString;
 import io.adminshell.aas.v3.model.Reference;
 
+/**
+ * Class for serializing an instance of AssetAdministrationShellEnvironment to
+ * XML. Instances using the same namespace prefixes share one mapper.
+ */
 public class XmlSerializer implements Serializer {
+    private static final int MAX_SHARED_WRITERS = 16;
+    /**
+     * Writers shared per set of namespace prefixes. The number of distinct
+     * prefix sets is unbounded, so only the most recently used ones are kept.
+     */
+    private static final Map<Optional<List<Map.Entry<String, String>>>, ObjectWriter> SHARED_WRITERS = new LinkedHashMap<>(MAX_SHARED_WRITERS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Optional<List<Map.Entry<String, String>>>, ObjectWriter> eldest) {
+            return size() > MAX_SHARED_WRITERS;
+        }
+    };
+    /**
+     * Mapper of subclasses, built via buildMapper(). Instances of this class
+     * use a shared writer instead and leave this null.
+     */
     protected XmlMapper mapper;
     protected Map<String, String> namespacePrefixes;
+    private ObjectWriter sharedWriter;
 
     public XmlSerializer() {
         this(null);
     }
 
     public XmlSerializer(Map<String, String> namespacePrefixes) {
-        this.namespacePrefixes = namespacePrefixes;
-        buildMapper();
+        this.namespacePrefixes = namespacePrefixes == null
+                ? null
+                : new LinkedHashMap<>(namespacePrefixes);
+        if (getClass() == XmlSerializer.class) {
+            // order of prefixes is relevant for output
+            Optional<List<Map.Entry<String, String>>> key = namespacePrefixes == null
+                    ? Optional.empty()
+                    : Optional.of(List.copyOf(this.namespacePrefixes.entrySet()));
+            synchronized (SHARED_WRITERS) {
+                sharedWriter = SHARED_WRITERS.computeIfAbsent(key, x -> createMapper().writer());
+            }
+        } else {
+            buildMapper();
+        }
     }
 
     protected void buildMapper() {
-        mapper = XmlMapper.builder()
+        mapper = createMapper();
+    }
+
+    /**
+     * Returns the writer to use for serialization
+     *
+     * @return the shared writer or a writer of the mapper built by a subclass
+     */
+    ObjectWriter writer() {
+        return mapper != null
+                ? mapper.writer()
+                : sharedWriter;
+    }
+
+    private XmlMapper createMapper() {
+        XmlMapper result = XmlMapper.builder()
                 .enable(SerializationFeature.INDENT_OUTPUT)
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
                 .serializationInclusion(JsonInclude.Include.NON_NULL)
@@ -64,8 +118,10 @@ public class XmlSerializer implements Serializer {
                 .addModule(buildEnumModule())
                 .addModule(buildCustomSerializerModule())
                 .configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true)
+                .addModule(new GeneratedAccessorModule())
                 .build();
-        ReflectionHelper.XML_MIXINS.entrySet().forEach(x -> mapper.addMixIn(x.getKey(), x.getValue()));
+        ReflectionHelper.XML_MIXINS.entrySet().forEach(x -> result.addMixIn(x.getKey(), x.getValue()));
+        return result;
     }
 
     protected SimpleModule buildCustomSerializerModule() {
@@ -93,8 +149,18 @@ public class XmlSerializer implements Serializer {
     @Override
     public String write(AssetAdministrationShellEnvironment aasEnvironment) throws SerializationException {
         try {
-            ObjectWriter writer = mapper.writer();
-            return writer.writeValueAsString(aasEnvironment);
+            return writer().writeValueAsString(aasEnvironment);
+        } catch (JsonProcessingException ex) {
+            throw new SerializationException("serialization failed", ex);
+        }
+    }
+
+    @Override
+    public void write(Writer writer, AssetAdministrationShellEnvironment aasEnvironment) throws IOException, SerializationException {
+        try {
+            writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(writer, aasEnvironment);
         } catch (JsonProcessingException ex) {
             throw new SerializationException("serialization failed", ex);
         }
@@ -16,22 +16,22 @@
 package io.adminshell.aas.v3.dataformat.xml.deserialization;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 
 import io.adminshell.aas.v3.model.DataElement;
-import io.adminshell.aas.v3.model.SubmodelElement;
 
 public class DataElementsDeserializer extends JsonDeserializer<List<DataElement>> {
 
+    private static final String ELEMENT_NAME = "dataElement";
+
     SubmodelElementDeserializer deserializer = new SubmodelElementDeserializer();
 
     public DataElementsDeserializer(SubmodelElementDeserializer deserializer) {
@@ -43,18 +43,21 @@ public class DataElementsDeserializer extends JsonDeserializer<List<DataElement>
 
     @Override
     public List<DataElement> deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        TreeNode treeNode = DeserializationHelper.getRootTreeNode(parser);
-        if (treeNode instanceof TextNode) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            // empty wrapper element
+            parser.skipChildren();
             return Collections.emptyList();
         }
-        ObjectNode node = (ObjectNode) treeNode;
-        ObjectNode dataElementNode = (ObjectNode) node.get("dataElement");
-        DataElement elem = createDataElementFromNode(parser, ctxt, dataElementNode);
-        return Collections.singletonList(elem);
-    }
-
-    private DataElement createDataElementFromNode(JsonParser parser, DeserializationContext ctxt, ObjectNode dataElementNode) throws IOException, JsonProcessingException {
-        return (DataElement) DeserializationHelper.createInstanceFromNode(parser, dataElementNode, SubmodelElement.class);
+        List<DataElement> elements = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (ELEMENT_NAME.equals(name)) {
+                elements.add((DataElement) deserializer.deserialize(parser, ctxt));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return elements;
     }
-
 }
@@ -19,31 +19,45 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.adminshell.aas.v3.dataformat.xml.SubmodelElementManager;
 import io.adminshell.aas.v3.model.SubmodelElement;
 
+/**
+ * Deserializes the content of a submodelElement (or dataElement) wrapper
+ * element. The concrete type is determined by the name of the first child
+ * element, e.g. property, which is then bound directly from the token stream.
+ */
 public class SubmodelElementDeserializer extends JsonDeserializer<SubmodelElement> {
 
     @Override
     public SubmodelElement deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        ObjectNode node = DeserializationHelper.getRootObjectNode(parser);
-        String elemName = findSubmodelElementName(parser, node);
-        JsonNode nodeContent = node.get(elemName);
-        return (SubmodelElement) DeserializationHelper.createInstanceFromNode(parser, nodeContent, SubmodelElementManager.getClassByXmlName(elemName));
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            throw new JsonMappingException(parser, "Expected submodel element but found " + token);
+        }
+        String elemName = parser.getCurrentName();
+        Class<?> type = SubmodelElementManager.getClassByXmlName(elemName);
+        if (type == null) {
+            throw new JsonMappingException(parser, "Unknown element " + elemName);
+        }
+        parser.nextToken();
+        SubmodelElement result = (SubmodelElement) ctxt.readValue(parser, type);
+        skipRemainingFields(parser);
+        return result;
     }
 
-    private String findSubmodelElementName(JsonParser parser, ObjectNode node) throws JsonMappingException {
-        for (String value : SubmodelElementManager.NAME_TO_CLASS.keySet()) {
-            if (node.has(value)) {
-                return value;
-            }
+    private void skipRemainingFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
         }
-        throw new JsonMappingException(parser, "Unknown element " + node);
     }
 }
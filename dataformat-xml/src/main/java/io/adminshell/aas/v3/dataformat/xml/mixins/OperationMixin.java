@@ -17,18 +17,22 @@ package io.adminshell.aas.v3.dataformat.xml.mixins;
 
 import java.util.List;
 
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 
 import io.adminshell.aas.v3.dataformat.xml.AasXmlNamespaceContext;
 import io.adminshell.aas.v3.model.OperationVariable;
 
 public interface OperationMixin {
+    @JacksonXmlElementWrapper(useWrapping = false)
     @JacksonXmlProperty(namespace = AasXmlNamespaceContext.AAS_URI, localName = "inputVariable")
     public List<OperationVariable> getInputVariables();
 
+    @JacksonXmlElementWrapper(useWrapping = false)
     @JacksonXmlProperty(namespace = AasXmlNamespaceContext.AAS_URI, localName = "inoutputVariable")
     public List<OperationVariable> getInoutputVariables();
 
+    @JacksonXmlElementWrapper(useWrapping = false)
     @JacksonXmlProperty(namespace = AasXmlNamespaceContext.AAS_URI, localName = "outputVariable")
     public List<OperationVariable> getOutputVariables();
 }
@@ -41,15 +41,15 @@ public class AssetAdministrationShellEnvironmentSerializer extends JsonSerialize
     private static final String[] SCHEMA_LOCATION = {"xsi:schemaLocation",
         "http://www.admin-shell.io/aas/3/0 AAS.xsd http://www.admin-shell.io/IEC61360/3/0 IEC61360.xsd http://www.admin-shell.io/aas/abac/3/0 AAS_ABAC.xsd"};
 
-    private static final QName AASENV_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "aasenv");
-    private static final QName AASLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assetAdministrationShells");
-    private static final QName AAS_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assetAdministrationShell");
-    private static final QName CONCEPTDICTIONARYLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "conceptDescriptions");
-    private static final QName CONCEPTDICTIONARY_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "conceptDescription");
-    private static final QName SUBMODELLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "submodels");
-    private static final QName SUBMODEL_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "submodel");
-    private static final QName ASSETLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assets");
-    private static final QName ASSET_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "asset");
+    public static final QName AASENV_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "aasenv");
+    public static final QName AASLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assetAdministrationShells");
+    public static final QName AAS_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assetAdministrationShell");
+    public static final QName CONCEPTDICTIONARYLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "conceptDescriptions");
+    public static final QName CONCEPTDICTIONARY_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "conceptDescription");
+    public static final QName SUBMODELLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "submodels");
+    public static final QName SUBMODEL_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "submodel");
+    public static final QName ASSETLIST_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assets");
+    public static final QName ASSET_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "asset");
 
     private Map<String, String> namespacePrefixes;
 
@@ -65,10 +65,32 @@ public class AssetAdministrationShellEnvironmentSerializer extends JsonSerialize
     public void serialize(AssetAdministrationShellEnvironment value, JsonGenerator gen, SerializerProvider serializers)
             throws IOException {
         ToXmlGenerator xgen = (ToXmlGenerator) gen;
+        writeStartEnvironment(xgen);
+        writeContent(value, xgen);
+        writeEndEnvironment(xgen);
+    }
+
+    /**
+     * Writes the opening aasenv tag including namespace declarations and
+     * schema location. Together with writeStartWrapper, writeEndWrapper and
+     * writeEndEnvironment this allows to write an environment incrementally.
+     *
+     * @param xgen the generator to write to
+     * @throws IOException if writing fails
+     */
+    public void writeStartEnvironment(ToXmlGenerator xgen) throws IOException {
         XMLStreamWriter streamWriter = xgen.getStaxWriter();
         setPrefixes(streamWriter);
         writeOpeningTag(xgen, streamWriter);
-        writeContent(value, xgen);
+    }
+
+    /**
+     * Writes the closing aasenv tag.
+     *
+     * @param xgen the generator to write to
+     * @throws IOException if writing fails
+     */
+    public void writeEndEnvironment(ToXmlGenerator xgen) throws IOException {
         closeOpeningTag(xgen);
     }
 
@@ -134,12 +156,37 @@ public class AssetAdministrationShellEnvironmentSerializer extends JsonSerialize
 
     private void writeWrappedArray(ToXmlGenerator xgen, QName wrapper, QName wrapped, List<?> list)
             throws IOException {
-        xgen.writeFieldName(wrapper.getLocalPart());
-        xgen.writeStartArray();
-        xgen.startWrappedValue(wrapper, wrapped);
+        writeStartWrapper(xgen, wrapper, wrapped);
         for (Object aas : list) {
             xgen.writeObject(aas);
         }
+        writeEndWrapper(xgen, wrapper, wrapped);
+    }
+
+    /**
+     * Opens a wrapper element, e.g. submodels, so that subsequent calls to
+     * writeObject are written as wrapped elements, e.g. submodel.
+     *
+     * @param xgen the generator to write to
+     * @param wrapper name of the wrapper element
+     * @param wrapped name of the wrapped elements
+     * @throws IOException if writing fails
+     */
+    public static void writeStartWrapper(ToXmlGenerator xgen, QName wrapper, QName wrapped) throws IOException {
+        xgen.writeFieldName(wrapper.getLocalPart());
+        xgen.writeStartArray();
+        xgen.startWrappedValue(wrapper, wrapped);
+    }
+
+    /**
+     * Closes a wrapper element opened by writeStartWrapper.
+     *
+     * @param xgen the generator to write to
+     * @param wrapper name of the wrapper element
+     * @param wrapped name of the wrapped elements
+     * @throws IOException if writing fails
+     */
+    public static void writeEndWrapper(ToXmlGenerator xgen, QName wrapper, QName wrapped) throws IOException {
         xgen.finishWrappedValue(wrapper, wrapped);
         xgen.writeEndArray();
     }
@@ -23,7 +23,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
-import io.adminshell.aas.v3.dataformat.core.util.AasUtils;
+import io.adminshell.aas.v3.dataformat.core.util.EnumNames;
 
 import io.adminshell.aas.v3.model.Key;
 
@@ -35,9 +35,9 @@ public class KeySerializer extends JsonSerializer<Key> {
         xgen.writeObjectFieldStart("key");
 
         try {
-            String idTypeValue = AasUtils.serializeEnumName(key.getIdType().toString());
+            String idTypeValue = EnumNames.serialize(key.getIdType());
             xgen.getStaxWriter().writeAttribute("idType", idTypeValue);
-            String keyTypeValue = AasUtils.serializeEnumName(key.getType().toString());
+            String keyTypeValue = EnumNames.serialize(key.getType());
             xgen.getStaxWriter().writeAttribute("type", keyTypeValue);
         } catch (XMLStreamException e) {
             e.printStackTrace();
@@ -16,6 +16,8 @@
 package io.adminshell.aas.v3.dataformat.xml;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
 
@@ -24,7 +26,19 @@ import org.junit.Test;
 import io.adminshell.aas.v3.dataformat.DeserializationException;
 import io.adminshell.aas.v3.dataformat.core.AASFull;
 import io.adminshell.aas.v3.dataformat.core.AASSimple;
+import io.adminshell.aas.v3.dataformat.core.CustomSubmodel;
 import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.IdentifierType;
+import io.adminshell.aas.v3.model.Operation;
+import io.adminshell.aas.v3.model.OperationVariable;
+import io.adminshell.aas.v3.model.Submodel;
+import io.adminshell.aas.v3.model.impl.DefaultAssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.impl.DefaultIdentifier;
+import io.adminshell.aas.v3.model.impl.DefaultOperation;
+import io.adminshell.aas.v3.model.impl.DefaultOperationVariable;
+import io.adminshell.aas.v3.model.impl.DefaultProperty;
+import io.adminshell.aas.v3.model.impl.DefaultSubmodel;
+import io.adminshell.aas.v3.model.impl.DefaultSubmodelElementCollection;
 
 public class XMLDeserializerTest {
 
@@ -39,4 +53,70 @@ public class XMLDeserializerTest {
         AssetAdministrationShellEnvironment env = new XmlDeserializer().read(XmlSerializerTest.AASFULL_FILE);
         assertEquals(AASFull.ENVIRONMENT, env);
     }
+
+    @Test
+    public void testMapperIsShared() {
+        assertSame(new XmlDeserializer().reader(), new XmlDeserializer().reader());
+        assertSame(new XmlSerializer().writer(), new XmlSerializer().writer());
+        assertSame(
+                new XmlDeserializer.Builder().useImplementation(Submodel.class, CustomSubmodel.class).build().reader(),
+                new XmlDeserializer.Builder().useImplementation(Submodel.class, CustomSubmodel.class).build().reader());
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+        XmlDeserializer deserializer = new XmlDeserializer.Builder()
+                .useImplementation(Submodel.class, CustomSubmodel.class)
+                .build();
+        AssetAdministrationShellEnvironment env = deserializer.read(XmlSerializerTest.AASSIMPLE_FILE);
+        env.getSubmodels().forEach(x -> assertEquals(CustomSubmodel.class, x.getClass()));
+        new XmlDeserializer().read(XmlSerializerTest.AASSIMPLE_FILE).getSubmodels()
+                .forEach(x -> assertEquals(DefaultSubmodel.class, x.getClass()));
+        assertThrows(UnsupportedOperationException.class, () -> deserializer.useImplementation(Submodel.class, DefaultSubmodel.class));
+    }
+
+    @Test
+    public void testOperationVariablesRoundTrip() throws Exception {
+        Operation operation = new DefaultOperation.Builder()
+                .idShort("operation")
+                .inputVariable(createOperationVariable("input"))
+                .outputVariable(createOperationVariable("output"))
+                .inoutputVariable(new DefaultOperationVariable.Builder()
+                        .value(new DefaultSubmodelElementCollection.Builder()
+                                .idShort("inoutput")
+                                .value(new DefaultProperty.Builder()
+                                        .idShort("nested")
+                                        .value("1")
+                                        .valueType("int")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+        AssetAdministrationShellEnvironment expected = new DefaultAssetAdministrationShellEnvironment.Builder()
+                .submodels(new DefaultSubmodel.Builder()
+                        .idShort("submodel")
+                        .identification(new DefaultIdentifier.Builder()
+                                .identifier("http://example.org/submodel")
+                                .idType(IdentifierType.IRI)
+                                .build())
+                        .submodelElement(operation)
+                        .build())
+                .build();
+        AssetAdministrationShellEnvironment actual = new XmlDeserializer().read(new XmlSerializer().write(expected));
+        Operation actualOperation = (Operation) actual.getSubmodels().get(0).getSubmodelElements().get(0);
+        assertEquals(operation.getInputVariables(), actualOperation.getInputVariables());
+        assertEquals(operation.getOutputVariables(), actualOperation.getOutputVariables());
+        assertEquals(operation.getInoutputVariables(), actualOperation.getInoutputVariables());
+        assertEquals(expected, actual);
+    }
+
+    private static OperationVariable createOperationVariable(String idShort) {
+        return new DefaultOperationVariable.Builder()
+                .value(new DefaultProperty.Builder()
+                        .idShort(idShort)
+                        .value("value")
+                        .valueType("string")
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Fraunhofer-Gesellschaft zur Foerderung der angewandten Forschung e. V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.adminshell.aas.v3.dataformat.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+import org.xmlunit.diff.DefaultNodeMatcher;
+import org.xmlunit.diff.ElementSelectors;
+import org.xmlunit.matchers.CompareMatcher;
+
+import io.adminshell.aas.v3.dataformat.DeserializationException;
+import io.adminshell.aas.v3.dataformat.SerializationException;
+import io.adminshell.aas.v3.dataformat.core.AASFull;
+import io.adminshell.aas.v3.model.AssetAdministrationShell;
+import io.adminshell.aas.v3.model.AssetAdministrationShellEnvironment;
+import io.adminshell.aas.v3.model.ConceptDescription;
+import io.adminshell.aas.v3.model.Submodel;
+
+public class XmlEnvironmentWriterTest {
+
+    @Test
+    public void testWriteFullExample() throws IOException, SerializationException, SAXException, DeserializationException {
+        AssetAdministrationShellEnvironment environment = AASFull.ENVIRONMENT;
+        StringWriter out = new StringWriter();
+        try (XmlEnvironmentWriter writer = new XmlEnvironmentWriter(out)) {
+            writer.beginEnvironment();
+            for (AssetAdministrationShell shell : environment.getAssetAdministrationShells()) {
+                writer.writeShell(shell);
+            }
+            for (ConceptDescription conceptDescription : environment.getConceptDescriptions()) {
+                writer.writeConceptDescription(conceptDescription);
+            }
+            for (Submodel submodel : environment.getSubmodels()) {
+                writer.writeSubmodel(submodel);
+            }
+            writer.end();
+        }
+        String actual = out.toString();
+        assertTrue(new XmlSchemaValidator().validateSchema(actual).isEmpty());
+        MatcherAssert.assertThat(actual, CompareMatcher.isSimilarTo(new XmlSerializer().write(environment))
+                .normalizeWhitespace()
+                .ignoreComments()
+                .withNodeMatcher(new DefaultNodeMatcher(ElementSelectors.byNameAndAllAttributes)));
+        assertEquals(environment, new XmlDeserializer().read(actual));
+    }
+
+    @Test
+    public void testWriteEmpty() throws IOException, SerializationException {
+        StringWriter out = new StringWriter();
+        try (XmlEnvironmentWriter writer = new XmlEnvironmentWriter(out)) {
+            writer.beginEnvironment();
+            writer.end();
+        }
+        MatcherAssert.assertThat(out.toString(), CompareMatcher.isSimilarTo(new File("src/test/resources/minimum.xml"))
+                .normalizeWhitespace()
+                .ignoreComments());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWriteOutOfOrder() throws IOException, SerializationException {
+        try (XmlEnvironmentWriter writer = new XmlEnvironmentWriter(new StringWriter())) {
+            writer.beginEnvironment();
+            writer.writeSubmodel(AASFull.SUBMODEL_1);
+            writer.writeShell(AASFull.AAS_1);
+        }
+    }
+}
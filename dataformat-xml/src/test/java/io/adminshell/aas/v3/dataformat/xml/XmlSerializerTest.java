@@ -19,6 +19,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -59,6 +60,13 @@ public class XmlSerializerTest {
         assertTrue(file.exists());
     }
 
+    @Test
+    public void testWriteToWriter() throws IOException, SerializationException {
+        StringWriter writer = new StringWriter();
+        new XmlSerializer().write(writer, AASFull.ENVIRONMENT);
+        MatcherAssert.assertThat(writer.toString(), CompareMatcher.isIdenticalTo(new XmlSerializer().write(AASFull.ENVIRONMENT)));
+    }
+
     @Test
     public void testSerializeMinimal() throws IOException, SerializationException, SAXException {
         File file = new File("src/test/resources/minimum.xml");
@@ -16,12 +16,18 @@
 package io.adminshell.aas.v3.dataformat.xml;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -30,6 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
+import io.adminshell.aas.v3.dataformat.DeserializationException;
+import io.adminshell.aas.v3.dataformat.ValidatedEnvironment;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 
@@ -63,6 +71,60 @@ public class XmlValidationTest {
         assertEquals(1, errors.size());
     }
 
+    @Test
+    @Parameters({"src/test/resources/minimum.xml", "src/test/resources/invalidXmlExample.xml", "src/test/resources/ServoDCMotor_invalid_V2.0.xml"})
+    public void validateStreamAndPathLikeString(String file) throws IOException {
+        Set<String> expected = validateXmlFile(file);
+        assertEquals(expected, validator.validateSchema(Paths.get(file)));
+        try (InputStream src = Files.newInputStream(Paths.get(file))) {
+            assertEquals(expected, validator.validateSchema(src));
+        }
+    }
+
+    @Test
+    @Parameters({"src/test/resources/invalidXmlExample.xml", "src/test/resources/ServoDCMotor_invalid_V2.0.xml"})
+    public void validateInvalidXmlCollectingErrors(String file) throws SAXException {
+        Set<String> errors = new XmlSchemaValidator(Integer.MAX_VALUE).validateSchema(Paths.get(file));
+        logErrors(file, errors);
+        assertFalse(errors.isEmpty());
+        assertTrue(errors.containsAll(validator.validateSchema(Paths.get(file))));
+        assertTrue(new XmlSchemaValidator(2).validateSchema(Paths.get(file)).size() <= 2);
+    }
+
+    @Test
+    public void validateConcurrently() throws IOException, SAXException {
+        String file = "src/test/resources/ServoDCMotor_invalid_V2.0.xml";
+        Set<String> expected = validateXmlFile(file);
+        XmlSchemaValidator pooledValidator = new XmlSchemaValidator(XmlSchemaValidator.DEFAULT_MAX_ERRORS, 2);
+        List<Set<String>> results = IntStream.range(0, 32)
+                .parallel()
+                .mapToObj(x -> pooledValidator.validateSchema(Paths.get(file)))
+                .collect(Collectors.toList());
+        results.forEach(x -> assertEquals(expected, x));
+    }
+
+    @Test
+    @Parameters({"src/test/resources/minimum.xml", "src/test/resources/test_demo_full_example.xml"})
+    public void readValidatedValidXml(String file) throws IOException, DeserializationException {
+        String serializedEnvironment = new String(Files.readAllBytes(Paths.get(file)));
+        XmlDeserializer deserializer = new XmlDeserializer();
+        ValidatedEnvironment result = deserializer.readValidated(serializedEnvironment);
+        logErrors(file, result.getMessages());
+        assertTrue(result.isValid());
+        assertEquals(deserializer.read(serializedEnvironment), result.getEnvironment());
+    }
+
+    @Test
+    @Parameters({"src/test/resources/invalidXmlExample.xml"})
+    public void readValidatedInvalidXml(String file) throws IOException, DeserializationException, SAXException {
+        String serializedEnvironment = new String(Files.readAllBytes(Paths.get(file)));
+        ValidatedEnvironment result = new XmlDeserializer().readValidated(serializedEnvironment);
+        logErrors(file, result.getMessages());
+        assertNotNull(result.getEnvironment());
+        assertFalse(result.isValid());
+        assertEquals(new XmlSchemaValidator().validateSchema(serializedEnvironment), result.getMessages());
+    }
+
     private void logErrors(String validatedFileName, Set<String> errors) {
         if (errors.isEmpty()) {
             return;